@@ -0,0 +1,145 @@
+import java.lang.Comparable;
+/**
+ * A BinarySearchTree that keeps itself balanced as an AVL tree. Every node stores the height of
+ * its subtree and after each insert or remove the heights of a node's two subtrees never differ by
+ * more than one, which is fixed with one or two rotations where they would. The height of the tree
+ * is then at most about 1.44 log2(n), so contains, insert, remove, findMin and findMax are all
+ * O(log n) even when the values arrive sorted.
+ */
+public class AVLTree<T extends Comparable<T>> extends BinarySearchTree<T>{
+	/**
+	 * Default constructor, makes an empty tree
+	 */
+	public AVLTree(){
+		super();
+	}
+	/**
+	 * A method that returns the height of the tree from the height stored at the root, in O(1)
+	 * @return int Represents the height of the tree.
+	 */
+	public int height(){
+		return root == null ? 0 : root.getBalanceHeight();
+	}
+	/**
+	 * A method to add a value to the tree, duplicates are ignored
+	 * @param T value The value you are inserting
+	 * @ensure The tree is balanced
+	 */
+	public void insert(T value){
+		root = insert(value,root);
+	}
+	/**
+	 * A method to add a value to a subtree and rebalance it on the way back up
+	 * @param T value,BinaryNode<T> node The value you are inserting and the root of the subtree
+	 * @return BinaryNode<T> The new root of the subtree
+	 */
+	private BinaryNode<T> insert(T value, BinaryNode<T> node){
+		if(node == null)
+			return new BinaryNode<>(value);
+		int comparison = myCompare(value,node.getData());
+		if(comparison < 0)
+			node.setLeftNode(insert(value,node.getLeftNode()));
+		else if(comparison > 0)
+			node.setRightNode(insert(value,node.getRightNode()));
+		/* a duplicate changes nothing so there is nothing to rebalance */
+		else
+			return node;
+		return balance(node);
+	}
+	/**
+	 * A method to remove a value from the tree
+	 * @param T value The value you want to remove
+	 * @ensure The tree is balanced
+	 */
+	public void remove(T value){
+		root = remove(value,root);
+	}
+	/**
+	 * A method to remove a value from a subtree and rebalance it on the way back up
+	 * @param T value,BinaryNode<T> node The value you want to remove and the root of the subtree
+	 * @return BinaryNode<T> The new root of the subtree
+	 */
+	private BinaryNode<T> remove(T value, BinaryNode<T> node){
+		if(node == null)
+			return null;
+		int comparison = myCompare(value,node.getData());
+		if(comparison < 0)
+			node.setLeftNode(remove(value,node.getLeftNode()));
+		else if(comparison > 0)
+			node.setRightNode(remove(value,node.getRightNode()));
+		/* with two children the node takes its successor's data and the successor is removed */
+		else if(node.getLeftNode() != null && node.getRightNode() != null){
+			node.setData(findMin(node.getRightNode()).getData());
+			node.setRightNode(remove(node.getData(),node.getRightNode()));
+		}
+		/* with one child or none the child takes the node's place, it is already balanced */
+		else
+			return (node.getLeftNode() != null) ? node.getLeftNode() : node.getRightNode();
+		return balance(node);
+	}
+	/**
+	 * A method to get the stored height of a subtree
+	 * @param BinaryNode<T> node The root of the subtree
+	 * @return int The height of the subtree, -1 if it is empty
+	 */
+	protected int height(BinaryNode<T> node){
+		return node == null ? -1 : node.getBalanceHeight();
+	}
+	/**
+	 * A method to recompute the stored data of a node from its children, which must already be
+	 * up to date. Subclasses that store more at each node add to it.
+	 * @param BinaryNode<T> node The node to update
+	 */
+	protected void update(BinaryNode<T> node){
+		node.setBalanceHeight(1 + Math.max(height(node.getLeftNode()),height(node.getRightNode())));
+	}
+	/**
+	 * A method to restore the AVL property at a node whose subtrees differ in height by at most two
+	 * @param BinaryNode<T> node The root of the subtree
+	 * @return BinaryNode<T> The new root of the subtree
+	 */
+	protected BinaryNode<T> balance(BinaryNode<T> node){
+		int difference = height(node.getLeftNode()) - height(node.getRightNode());
+		if(difference > 1){
+			/* the left subtree is too tall, if its inner side is the taller one it is rotated
+			 * first so one rotation at the node fixes it */
+			if(height(node.getLeftNode().getLeftNode()) < height(node.getLeftNode().getRightNode()))
+				node.setLeftNode(rotateLeft(node.getLeftNode()));
+			return rotateRight(node);
+		}
+		if(difference < -1){
+			/* the same on the right side */
+			if(height(node.getRightNode().getRightNode()) < height(node.getRightNode().getLeftNode()))
+				node.setRightNode(rotateRight(node.getRightNode()));
+			return rotateLeft(node);
+		}
+		update(node);
+		return node;
+	}
+	/**
+	 * A method to rotate a subtree to the right, the left child becomes its root
+	 * @param BinaryNode<T> node The root of the subtree
+	 * @return BinaryNode<T> The new root of the subtree
+	 */
+	private BinaryNode<T> rotateRight(BinaryNode<T> node){
+		BinaryNode<T> left = node.getLeftNode();
+		node.setLeftNode(left.getRightNode());
+		left.setRightNode(node);
+		update(node);
+		update(left);
+		return left;
+	}
+	/**
+	 * A method to rotate a subtree to the left, the right child becomes its root
+	 * @param BinaryNode<T> node The root of the subtree
+	 * @return BinaryNode<T> The new root of the subtree
+	 */
+	private BinaryNode<T> rotateLeft(BinaryNode<T> node){
+		BinaryNode<T> right = node.getRightNode();
+		node.setRightNode(right.getLeftNode());
+		right.setLeftNode(node);
+		update(node);
+		update(right);
+		return right;
+	}
+}
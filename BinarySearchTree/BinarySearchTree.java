@@ -1,5 +1,11 @@
 import java.lang.Comparable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
 public class BinarySearchTree<T extends Comparable<T>> extends BinaryTree<T>{
 	/* the comparator of the BinarySearchTree */
 	private Comparator<? super T> comp;
@@ -29,7 +35,7 @@ public class BinarySearchTree<T extends Comparable<T>> extends BinaryTree<T>{
 	 * @param T thisData, T thatData The data of the two nodes you are comparing
 	 * @return int represents if the data is greater than or less than the other data
  	 */
-	private int myCompare(T thisData, T thatData){
+	protected int myCompare(T thisData, T thatData){
 		/*if the comparator is not null, return a normal comparison */
 		if(comp != null)
 			return comp.compare(thisData,thatData);
@@ -37,6 +43,105 @@ public class BinarySearchTree<T extends Comparable<T>> extends BinaryTree<T>{
 			/* else cast it to comparable and compare to */
 			return thisData.compareTo(thatData);
 	}
+	/**
+	 * A method to make a perfectly balanced tree out of sorted values in O(n)
+	 * @param T[] sorted The values in ascending order, equal values are kept once
+	 * @return BinarySearchTree<T> The new tree
+	 * @throws IllegalArgumentException() if the values are not sorted
+	 */
+	public static <T extends Comparable<T>> BinarySearchTree<T> fromSorted(T[] sorted){
+		BinarySearchTree<T> tree = new BinarySearchTree<T>();
+		tree.loadSorted(sorted);
+		return tree;
+	}
+	/**
+	 * A method to make a perfectly balanced tree out of values in any order. They are sorted in
+	 * parallel first, which is O(n log n), and then loaded in O(n).
+	 * @param T[] values The values, equal values are kept once
+	 * @return BinarySearchTree<T> The new tree
+	 */
+	public static <T extends Comparable<T>> BinarySearchTree<T> fromUnsorted(T[] values){
+		BinarySearchTree<T> tree = new BinarySearchTree<T>();
+		tree.loadUnsorted(values);
+		return tree;
+	}
+	/**
+	 * A method to replace the contents of the tree with sorted values, building a perfectly
+	 * balanced tree in O(n) instead of inserting them one at a time
+	 * @param T[] sorted The values in ascending order, equal values are kept once like insert does
+	 * @ensure The tree holds exactly the given values
+	 * @throws IllegalArgumentException() if the values are not sorted
+	 */
+	public void loadSorted(T[] sorted){
+		loadSorted(Arrays.asList(sorted).iterator());
+	}
+	/**
+	 * A method to replace the contents of the tree with the values of a sorted stream
+	 * @param Stream<? extends T> sorted The values in ascending order, equal values are kept once
+	 * @ensure The tree holds exactly the given values
+	 * @throws IllegalArgumentException() if the values are not sorted
+	 */
+	public void loadSorted(Stream<? extends T> sorted){
+		loadSorted(sorted.iterator());
+	}
+	/**
+	 * A method to replace the contents of the tree with the values of a sorted iterator
+	 * @param Iterator<? extends T> sorted The values in ascending order, equal values are kept once
+	 * @ensure The tree holds exactly the given values
+	 * @throws IllegalArgumentException() if the values are not sorted
+	 */
+	public void loadSorted(Iterator<? extends T> sorted){
+		/* collect the distinct values so the middle of every range can be found */
+		List<T> values = new ArrayList<T>();
+		while(sorted.hasNext()){
+			T value = sorted.next();
+			if(!values.isEmpty()){
+				int comparison = myCompare(value,values.get(values.size() - 1));
+				if(comparison < 0)
+					throw new IllegalArgumentException("The values are not sorted, " + value + " comes after " + values.get(values.size() - 1));
+				/* a duplicate is dropped the same way insert ignores it */
+				if(comparison == 0)
+					continue;
+			}
+			values.add(value);
+		}
+		root = build(values,0,values.size());
+	}
+	/**
+	 * A method to replace the contents of the tree with values in any order. A copy of them is
+	 * sorted in parallel and then loaded as a perfectly balanced tree.
+	 * @param T[] values The values, equal values are kept once
+	 * @ensure The tree holds exactly the given values
+	 */
+	public void loadUnsorted(T[] values){
+		T[] sorted = values.clone();
+		Arrays.parallelSort(sorted,this::myCompare);
+		loadSorted(sorted);
+	}
+	/**
+	 * A method to build a perfectly balanced subtree out of a range of sorted, distinct values.
+	 * The middle value is the root and each half makes one of its subtrees, so the recursion is
+	 * only log2(n) deep.
+	 * @param List<T> values, int low, int high The values and the range to use, high excluded
+	 * @return BinaryNode<T> The root of the subtree, null if the range is empty
+	 */
+	private BinaryNode<T> build(List<T> values, int low, int high){
+		if(low >= high)
+			return null;
+		int middle = (low + high) >>> 1;
+		BinaryNode<T> node = new BinaryNode<>(values.get(middle));
+		node.setLeftNode(build(values,low,middle));
+		node.setRightNode(build(values,middle + 1,high));
+		update(node);
+		return node;
+	}
+	/**
+	 * A method to recompute the data a subclass stores at a node from its children, which must
+	 * already be up to date. A plain BinarySearchTree stores nothing so there is nothing to do.
+	 * @param BinaryNode<T> node The node to update
+	 */
+	protected void update(BinaryNode<T> node){
+	}
 	public boolean isEmpty(){
 		return root == null;
 	}
@@ -49,19 +154,21 @@ public class BinarySearchTree<T extends Comparable<T>> extends BinaryTree<T>{
 	 * @return boolean Represents if the value is in the tree or not
 	 */
 	private boolean contains(T value, BinaryNode<T> node){
-		/* see if the node is null */
-		if(node == null)
-			return false;
-		/* compare the value you are searching for to the data at the node */
-		int comparison = myCompare(value,node.getData());
-		/* if the result is less than 0, search the left subtree */
-		if(comparison < 0)
-			return contains(value,node.getLeftNode());
-		/* if the reuslt is greater than 0, search the right subtree */
-		else if(comparison > 0)
-			return contains(value,node.getRightNode());
-		else
-			return true;
+		/* walk down from the node until the value is found or we fall off the tree, a loop
+		 * rather than recursion so a deep tree can not overflow the stack */
+		while(node != null){
+			/* compare the value you are searching for to the data at the node */
+			int comparison = myCompare(value,node.getData());
+			/* if the result is less than 0, search the left subtree */
+			if(comparison < 0)
+				node = node.getLeftNode();
+			/* if the reuslt is greater than 0, search the right subtree */
+			else if(comparison > 0)
+				node = node.getRightNode();
+			else
+				return true;
+		}
+		return false;
 	}
 	/**
 	 * @throws IllegalStateException() if the tree is empty
@@ -75,16 +182,13 @@ public class BinarySearchTree<T extends Comparable<T>> extends BinaryTree<T>{
 	 * @param node The node that roots the subtree
 	 * @return node containing the smallest data
 	 */
-	private BinaryNode<T> findMin(BinaryNode<T> node){
-		/* if the node is null then return it */
-		if(node == null)
-			return null;
-		/* if it has no left child, then it is itself the smallest node */
-		else if(node.getLeftNode() == null)
-			return node;
-		/* recursivley call findMin untill you find the smallest */
-		else
-			return findMin(node.getLeftNode());
+	protected BinaryNode<T> findMin(BinaryNode<T> node){
+		/* if the node is not null follow the left children until there are none, the last one
+		 * is the smallest */
+		if(node != null)
+			while(node.getLeftNode() != null)
+				node = node.getLeftNode();
+		return node;
 	}
 	/**
 	 * @throws IllegalStateException() If the tree is empty 
@@ -107,67 +211,253 @@ public class BinarySearchTree<T extends Comparable<T>> extends BinaryTree<T>{
 				node = node.getRightNode();
 		return node;
 	}
-	public void insert(T value){
-		root = insert(value,root);
+	/**
+	 * A method to find the smallest value at least as large as the given one
+	 * @param T value The value to search from
+	 * @return T The smallest value greater than or equal to it, or null if there is none
+	 */
+	public T ceiling(T value){
+		return bound(value,true,true);
 	}
 	/**
-	 * A method to add a value to the list
-	 * @param T value,BinaryNode<T> node The value you are inserting and the starting point
-	 * @return BinaryNode<T> the newly created node 
-	 * @ensure The tree contains no duplicates
+	 * A method to find the smallest value larger than the given one
+	 * @param T value The value to search from
+	 * @return T The smallest value greater than it, or null if there is none
 	 */
-	private BinaryNode<T> insert(T value, BinaryNode<T> node){
-		/* when you find a null node, make a new node in its spot */
-		if(node == null)
-			return new BinaryNode<>(value);
-		/* compare the data at the node with the data you are trying to enter */
-		int comparison = myCompare(value,node.getData());
-		/* if it is less than 0, recursively move left to the next node */
-		if(comparison < 0)
-			node.setLeftNode(insert(value,node.getLeftNode()));
-		/* if its greater than 0, recursively move right to the next node */
-		else if(comparison > 0)
-			node.setRightNode(insert(value,node.getRightNode()));
-		/* if its not less or greater its a duplicate so do nothing */
-		else
-		;
-		return node;
+	public T higher(T value){
+		return bound(value,true,false);
 	}
-	public void remove(T value){
-		root = remove(value,root);
+	/**
+	 * A method to find the largest value at most as large as the given one
+	 * @param T value The value to search from
+	 * @return T The largest value less than or equal to it, or null if there is none
+	 */
+	public T floor(T value){
+		return bound(value,false,true);
 	}
 	/**
-	 * A method to remove a node from the BinarySearchTree.
-	 * @param T value,BinaryNode<T> node The value you want to remove and the node you want to 
-	 * remove that contains the value
-	 * @return BinaryNode<T> The new root of the subtree
+	 * A method to find the largest value smaller than the given one
+	 * @param T value The value to search from
+	 * @return T The largest value less than it, or null if there is none
 	 */
-	private BinaryNode<T> remove(T value, BinaryNode<T> node){
-		/* if you found null, then we are at the bottom so we found what we need, return it and start going back up */
+	public T lower(T value){
+		return bound(value,false,false);
+	}
+	/**
+	 * A method to find the closest value on one side of a given one in one walk down the tree
+	 * @param T value, boolean above, boolean inclusive The value to search from, if the answer is
+	 * above or below it and if the value itself counts
+	 * @return T The closest value on that side, or null if there is none
+	 */
+	private T bound(T value, boolean above, boolean inclusive){
+		T best = null;
+		BinaryNode<T> node = root;
+		while(node != null){
+			int comparison = myCompare(value,node.getData());
+			if(comparison == 0 && inclusive)
+				return node.getData();
+			/* the node is on the wanted side so it is the best so far, and anything closer is
+			 * in the subtree toward the value */
+			if(above ? comparison < 0 : comparison > 0){
+				best = node.getData();
+				node = above ? node.getLeftNode() : node.getRightNode();
+			}
+			else
+				node = above ? node.getRightNode() : node.getLeftNode();
+		}
+		return best;
+	}
+	/**
+	 * A method to walk the values from low to high in ascending order. The iterator walks down to
+	 * low in O(log n) and then finds each value in O(1) amortized using its own stack, so a scan
+	 * of k values costs O(log n + k) and nothing is allocated per value. The tree must not be
+	 * changed while the iterator is in use.
+	 * @param T low, T high The smallest and largest values of the range, both included, or null
+	 * for no bound on that side
+	 * @return Iterator<T> An iterator over the values of the range
+	 */
+	public Iterator<T> range(T low, T high){
+		return new RangeIterator(low,high,true);
+	}
+	/**
+	 * A method to walk the values from high down to low in descending order, the same way range
+	 * does in ascending order
+	 * @param T low, T high The smallest and largest values of the range, both included, or null
+	 * for no bound on that side
+	 * @return Iterator<T> An iterator over the values of the range, largest first
+	 */
+	public Iterator<T> descendingRange(T low, T high){
+		return new RangeIterator(low,high,false);
+	}
+	/**
+	 * An iterator over a range of the tree. Its stack holds the nodes whose value is still to come
+	 * and whose subtree on the far side has not been entered, the next value is always on top.
+	 */
+	private class RangeIterator implements Iterator<T>{
+		/**
+		 * The members of this class are the stack, the bound the values end at and the direction
+		 */
+		private Object[] stack = new Object[32];
+		private int depth;
+		private final T end;
+		private final boolean ascending;
+		/**
+		 * Constructor that walks down to the start of the range
+		 * @param T low, T high, boolean ascending The bounds, either may be null, and the direction
+		 */
+		RangeIterator(T low, T high, boolean ascending){
+			this.ascending = ascending;
+			this.end = ascending ? high : low;
+			T start = ascending ? low : high;
+			BinaryNode<T> node = root;
+			while(node != null){
+				/* a node before the start is skipped along with its near subtree */
+				if(start != null && (ascending ? myCompare(node.getData(),start) < 0 : myCompare(node.getData(),start) > 0))
+					node = ascending ? node.getRightNode() : node.getLeftNode();
+				else{
+					push(node);
+					node = ascending ? node.getLeftNode() : node.getRightNode();
+				}
+			}
+			trimPastEnd();
+		}
+		/**
+		 * A method to determine if there are values left in the range
+		 * @return boolean Represents if next will return a value
+		 */
+		public boolean hasNext(){
+			return depth > 0;
+		}
+		/**
+		 * A method to get the next value of the range
+		 * @return T The next value
+		 * @throws NoSuchElementException() if the range has no values left
+		 */
+		@SuppressWarnings("unchecked")
+		public T next(){
+			if(depth == 0)
+				throw new NoSuchElementException("The range has no values left");
+			BinaryNode<T> node = (BinaryNode<T>) stack[--depth];
+			stack[depth] = null;
+			/* the values after the node start with its far subtree, walk down its near side */
+			for(BinaryNode<T> child = ascending ? node.getRightNode() : node.getLeftNode();child != null;child = ascending ? child.getLeftNode() : child.getRightNode())
+				push(child);
+			trimPastEnd();
+			return node.getData();
+		}
+		/**
+		 * A method to end the iteration once the value on top of the stack is past the end of the
+		 * range, every value after it is further past
+		 */
+		@SuppressWarnings("unchecked")
+		private void trimPastEnd(){
+			if(depth == 0 || end == null)
+				return;
+			int comparison = myCompare(((BinaryNode<T>) stack[depth - 1]).getData(),end);
+			if(ascending ? comparison > 0 : comparison < 0){
+				Arrays.fill(stack,0,depth,null);
+				depth = 0;
+			}
+		}
+		/**
+		 * A method to push a node on the stack, growing it if it is full
+		 * @param BinaryNode<T> node The node to push
+		 */
+		private void push(BinaryNode<T> node){
+			if(depth == stack.length)
+				stack = Arrays.copyOf(stack,depth * 2);
+			stack[depth++] = node;
+		}
+	}
+	/**
+	 * A method to add a value to the tree. It walks down to where the value belongs and links a
+	 * new node to its parent, the only pointer that changes.
+	 * @param T value The value you are inserting
+	 * @ensure The tree contains no duplicates
+	 */
+	public void insert(T value){
+		/* an empty tree just gets a root */
+		if(root == null){
+			root = new BinaryNode<>(value);
+			return;
+		}
+		BinaryNode<T> node = root;
+		while(true){
+			/* compare the data at the node with the data you are trying to enter */
+			int comparison = myCompare(value,node.getData());
+			/* if it is less than 0, move left, and if there is nothing there the new node goes there */
+			if(comparison < 0){
+				if(node.getLeftNode() == null){
+					node.setLeftNode(new BinaryNode<>(value));
+					return;
+				}
+				node = node.getLeftNode();
+			}
+			/* if its greater than 0, the same on the right */
+			else if(comparison > 0){
+				if(node.getRightNode() == null){
+					node.setRightNode(new BinaryNode<>(value));
+					return;
+				}
+				node = node.getRightNode();
+			}
+			/* if its not less or greater its a duplicate so do nothing */
+			else
+				return;
+		}
+	}
+	/**
+	 * A method to remove a value from the BinarySearchTree. It walks down to the node holding the
+	 * value keeping track of its parent. A node with two children takes the data of its successor,
+	 * the smallest node of its right subtree, which is found and unlinked in the same walk. Only
+	 * the pointer to the node that leaves the tree is written.
+	 * @param T value The value you want to remove
+	 */
+	public void remove(T value){
+		BinaryNode<T> parent = null;
+		BinaryNode<T> node = root;
+		/* find the node and its parent */
+		while(node != null){
+			int comparison = myCompare(value,node.getData());
+			if(comparison == 0)
+				break;
+			parent = node;
+			node = comparison < 0 ? node.getLeftNode() : node.getRightNode();
+		}
+		/* the value is not in the tree */
 		if(node == null)
-			return node;
-		/* compare the value and the node's data and store the result */
-		int comparison = myCompare(value,node.getData());
-		/* if the result is less than 0, move left and recusively call remove on the lesser node */
-		if(comparison < 0)
-			node.setLeftNode(remove(value,node.getLeftNode()));
-		/* if the result is greater than 0, move right and recursilty call remove on the greater node */
-		else if(comparison > 0)
-			node.setRightNode(remove(value,node.getRightNode()));
-		/* if it got here then we found the value so if it has two children */
-		else if(node.getLeftNode() != null && node.getRightNode() != null){
-			/* change the data of the node to be its deepest right subtree's left child's data(meaning the next 
-				largest node after the one removed) */
-			node.setData(findMin(node.getRightNode()).getData());
-			/* then set the node you just found to null by traversing down to it and finding a null child */
-			node.setRightNode(remove(node.getData(),node.getRightNode()));
+			return;
+		/* if it has two children, splice out its successor, which has no left child, and move
+		 * the successor's data into the node */
+		if(node.getLeftNode() != null && node.getRightNode() != null){
+			BinaryNode<T> successorParent = node;
+			BinaryNode<T> successor = node.getRightNode();
+			while(successor.getLeftNode() != null){
+				successorParent = successor;
+				successor = successor.getLeftNode();
+			}
+			if(successorParent == node)
+				successorParent.setRightNode(successor.getRightNode());
+			else
+				successorParent.setLeftNode(successor.getRightNode());
+			node.setData(successor.getData());
 		}
-		/* once you get to the node with no children set it equal to the null child */
+		/* otherwise its only child, or null, takes its place under the parent */
 		else
-			/* the node is now the left child if it was found, or the right if it was not */
-			node = (node.getLeftNode() != null) ? node.getLeftNode() : node.getRightNode();
-		/* then return the rest of the calls to remove by returning the node at each subtree unchanged since it 
-			did not alter the node itself, just the children unless it was now a duplicate in which case it is now null*/
-		return node;
+			replaceChild(parent,node,(node.getLeftNode() != null) ? node.getLeftNode() : node.getRightNode());
+	}
+	/**
+	 * A method to point a parent, or the root if there is no parent, at a new child in place of an
+	 * old one
+	 * @param BinaryNode<T> parent, BinaryNode<T> child, BinaryNode<T> replacement The parent, the
+	 * child that is leaving and the node that takes its place
+	 */
+	private void replaceChild(BinaryNode<T> parent, BinaryNode<T> child, BinaryNode<T> replacement){
+		if(parent == null)
+			root = replacement;
+		else if(parent.getLeftNode() == child)
+			parent.setLeftNode(replacement);
+		else
+			parent.setRightNode(replacement);
 	}
 }
\ No newline at end of file
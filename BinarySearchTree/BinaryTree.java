@@ -269,6 +269,10 @@ public class BinaryTree<T extends Comparable<T>>{
 		/* both children are intially null so that means the node starts as a leaf node. */
 		private BinaryNode<T> leftNode = null;
 		private BinaryNode<T> rightNode = null;
+		/* the height of the subtree under the node, kept up to date only by balanced trees */
+		private int balanceHeight = 0;
+		/* the number of nodes in the subtree under the node, kept up to date only by order statistic trees */
+		private int subtreeSize = 1;
 		/**
 		 * Constructor for the BinaryNode class.
 		 * @param T data The data you want at the node initially
@@ -327,6 +331,35 @@ public class BinaryTree<T extends Comparable<T>>{
 		public void setData(T data){
 			this.data = data;
 		}
+		/**
+		 * A method to return the height stored at the node by a balanced tree. Unlike height() it
+		 * is not computed, so it is O(1) but only right if the tree keeps it up to date.
+		 * @return int Represents the stored height of the subtree under the node.
+		 */
+		public int getBalanceHeight(){
+			return this.balanceHeight;
+		}
+		/**
+		 * A method to store the height of the subtree under the node.
+		 * @param int balanceHeight The height of the subtree, 0 for a leaf.
+		 */
+		public void setBalanceHeight(int balanceHeight){
+			this.balanceHeight = balanceHeight;
+		}
+		/**
+		 * A method to return the number of nodes stored at the node by an order statistic tree.
+		 * @return int Represents the number of nodes in the subtree under the node.
+		 */
+		public int getSubtreeSize(){
+			return this.subtreeSize;
+		}
+		/**
+		 * A method to store the number of nodes in the subtree under the node.
+		 * @param int subtreeSize The number of nodes, 1 for a leaf.
+		 */
+		public void setSubtreeSize(int subtreeSize){
+			this.subtreeSize = subtreeSize;
+		}
 		/**
 		 * A method to calculate the height of a binary tree.
 		 * @return int Represent the height of the tree.
@@ -0,0 +1,170 @@
+import java.lang.Comparable;
+import java.util.concurrent.locks.StampedLock;
+/**
+ * A thread-safe BinarySearchTree for workloads that are mostly lookups. It guards an AVLTree with a
+ * StampedLock. insert and remove take the write lock. contains, findMin and findMax first walk the
+ * tree without any lock and then check that no write happened while they did, which costs two
+ * reads of the lock's state and no writes to shared memory, so readers never block each other and
+ * scale with the number of cores. Only a read that overlapped a write is redone under the read lock.
+ *
+ * An optimistic walk can see the tree halfway through a rotation. It never trusts what it saw
+ * until the lock confirms nothing changed, it gives up after more steps than a balanced tree can
+ * be deep, and an exception from reading a half-changed node only sends it to the read lock.
+ */
+public class ConcurrentBinarySearchTree<T extends Comparable<T>>{
+	/**
+	 * The members of this class are the tree and its lock
+	 */
+	/* no AVL tree of up to 2^31 values is deeper than this, so a longer walk hit a moving tree */
+	private static final int MAX_DEPTH = 64;
+	private final AVLTree<T> tree = new AVLTree<T>();
+	private final StampedLock lock = new StampedLock();
+	/**
+	 * A method to add a value to the tree, duplicates are ignored
+	 * @param T value The value you are inserting
+	 */
+	public void insert(T value){
+		long stamp = lock.writeLock();
+		try{
+			tree.insert(value);
+		}finally{
+			lock.unlockWrite(stamp);
+		}
+	}
+	/**
+	 * A method to remove a value from the tree
+	 * @param T value The value you want to remove
+	 */
+	public void remove(T value){
+		long stamp = lock.writeLock();
+		try{
+			tree.remove(value);
+		}finally{
+			lock.unlockWrite(stamp);
+		}
+	}
+	/**
+	 * A method to determine if the tree contains a value, without blocking unless a write is under
+	 * way
+	 * @param T value The value you are looking for
+	 * @return boolean Represents if the value is in the tree or not
+	 */
+	public boolean contains(T value){
+		long stamp = lock.tryOptimisticRead();
+		if(stamp != 0){
+			try{
+				int found = search(value);
+				if(found >= 0 && lock.validate(stamp))
+					return found == 1;
+			}catch(RuntimeException e){
+				/* a node read halfway through a write, the read lock will sort it out */
+			}
+		}
+		stamp = lock.readLock();
+		try{
+			return tree.contains(value);
+		}finally{
+			lock.unlockRead(stamp);
+		}
+	}
+	/**
+	 * A method to find the smallest value, without blocking unless a write is under way
+	 * @return T The smallest value in the tree
+	 * @throws IllegalStateException() if the tree is empty
+	 */
+	public T findMin(){
+		return findEnd(true);
+	}
+	/**
+	 * A method to find the largest value, without blocking unless a write is under way
+	 * @return T The largest value in the tree
+	 * @throws IllegalStateException() if the tree is empty
+	 */
+	public T findMax(){
+		return findEnd(false);
+	}
+	/**
+	 * A method to determine if the tree is empty
+	 * @return boolean Represents if the tree is empty
+	 */
+	public boolean isEmpty(){
+		long stamp = lock.tryOptimisticRead();
+		boolean empty = tree.root == null;
+		if(stamp != 0 && lock.validate(stamp))
+			return empty;
+		stamp = lock.readLock();
+		try{
+			return tree.isEmpty();
+		}finally{
+			lock.unlockRead(stamp);
+		}
+	}
+	/**
+	 * A method to display the tree's in order traversal, taken under the read lock
+	 * @return String Represents the tree's inorder traversal, empty if the tree is
+	 */
+	public String inOrderTraverse(){
+		long stamp = lock.readLock();
+		try{
+			return tree.isEmpty() ? "" : tree.inOrderTraverse();
+		}finally{
+			lock.unlockRead(stamp);
+		}
+	}
+	/**
+	 * A method to look for a value without any lock
+	 * @param T value The value you are looking for
+	 * @return int 1 if the value was found, 0 if it was not and -1 if the walk was too long to trust
+	 */
+	private int search(T value){
+		BinaryTree<T>.BinaryNode<T> node = tree.root;
+		for(int depth = 0;node != null;depth++){
+			if(depth > MAX_DEPTH)
+				return -1;
+			int comparison = tree.myCompare(value,node.getData());
+			if(comparison < 0)
+				node = node.getLeftNode();
+			else if(comparison > 0)
+				node = node.getRightNode();
+			else
+				return 1;
+		}
+		return 0;
+	}
+	/**
+	 * A method to find the smallest or the largest value, optimistically and then under the read
+	 * lock if a write got in the way
+	 * @param boolean min If the smallest value is wanted rather than the largest
+	 * @return T The value
+	 * @throws IllegalStateException() if the tree is empty
+	 */
+	private T findEnd(boolean min){
+		long stamp = lock.tryOptimisticRead();
+		if(stamp != 0){
+			T value = null;
+			boolean trusted = false;
+			try{
+				BinaryTree<T>.BinaryNode<T> node = tree.root;
+				BinaryTree<T>.BinaryNode<T> next;
+				int depth = 0;
+				while(node != null && (next = min ? node.getLeftNode() : node.getRightNode()) != null && depth++ <= MAX_DEPTH)
+					node = next;
+				value = node == null ? null : node.getData();
+				trusted = depth <= MAX_DEPTH;
+			}catch(RuntimeException e){
+				/* a node read halfway through a write, the read lock will sort it out */
+			}
+			if(trusted && lock.validate(stamp)){
+				if(value == null)
+					throw new IllegalStateException("The tree is empty");
+				return value;
+			}
+		}
+		stamp = lock.readLock();
+		try{
+			return min ? tree.findMin() : tree.findMax();
+		}finally{
+			lock.unlockRead(stamp);
+		}
+	}
+}
@@ -0,0 +1,103 @@
+import java.lang.Comparable;
+/**
+ * An AVLTree that also stores the size of the subtree under every node. The sizes are fixed up in
+ * the same update that fixes the heights after an insert, a remove or a rotation, so they cost
+ * nothing extra to keep. With them the k-th smallest value, the rank of a value and the number of
+ * values in a range are all found in one walk down the tree, O(log n).
+ */
+public class OrderStatisticTree<T extends Comparable<T>> extends AVLTree<T>{
+	/**
+	 * Default constructor, makes an empty tree
+	 */
+	public OrderStatisticTree(){
+		super();
+	}
+	/**
+	 * A method to return the number of values in the tree, in O(1)
+	 * @return int The number of values in the tree
+	 */
+	public int size(){
+		return size(root);
+	}
+	/**
+	 * A method to find the k-th smallest value
+	 * @param int k The position of the value in sorted order, starting at 0
+	 * @return T The value with exactly k smaller values in the tree
+	 * @throws IllegalArgumentException() if k is not between 0 and size() - 1
+	 */
+	public T select(int k){
+		if(k < 0 || k >= size())
+			throw new IllegalArgumentException("k must be between 0 and " + (size() - 1));
+		BinaryNode<T> node = root;
+		while(true){
+			int leftSize = size(node.getLeftNode());
+			/* the k-th value is in the left subtree, at the node or in the right subtree where
+			 * the left subtree and the node no longer count */
+			if(k < leftSize)
+				node = node.getLeftNode();
+			else if(k == leftSize)
+				return node.getData();
+			else{
+				k -= leftSize + 1;
+				node = node.getRightNode();
+			}
+		}
+	}
+	/**
+	 * A method to find the rank of a value, which does not have to be in the tree
+	 * @param T value The value to rank
+	 * @return int The number of values in the tree smaller than it
+	 */
+	public int rank(T value){
+		return countBelow(value,false);
+	}
+	/**
+	 * A method to count the values in a range
+	 * @param T low, T high The smallest and largest values of the range, both included
+	 * @return int The number of values in the tree from low to high, 0 if high is below low
+	 */
+	public int countRange(T low, T high){
+		if(myCompare(low,high) > 0)
+			return 0;
+		return countBelow(high,true) - countBelow(low,false);
+	}
+	/**
+	 * A method to count the values below a bound in one walk down the tree
+	 * @param T value, boolean inclusive The bound and if values equal to it count
+	 * @return int The number of values below the bound
+	 */
+	private int countBelow(T value, boolean inclusive){
+		int count = 0;
+		BinaryNode<T> node = root;
+		while(node != null){
+			int comparison = myCompare(value,node.getData());
+			/* going right passes the node and its whole left subtree, they are all below */
+			if(comparison > 0 || (comparison == 0 && inclusive)){
+				count += size(node.getLeftNode()) + 1;
+				node = node.getRightNode();
+			}
+			/* the node holds the value so exactly its left subtree is below */
+			else if(comparison == 0)
+				return count + size(node.getLeftNode());
+			else
+				node = node.getLeftNode();
+		}
+		return count;
+	}
+	/**
+	 * A method to get the stored size of a subtree
+	 * @param BinaryNode<T> node The root of the subtree
+	 * @return int The number of values in the subtree, 0 if it is empty
+	 */
+	private int size(BinaryNode<T> node){
+		return node == null ? 0 : node.getSubtreeSize();
+	}
+	/**
+	 * A method to recompute the stored height and size of a node from its children
+	 * @param BinaryNode<T> node The node to update
+	 */
+	protected void update(BinaryNode<T> node){
+		super.update(node);
+		node.setSubtreeSize(1 + size(node.getLeftNode()) + size(node.getRightNode()));
+	}
+}
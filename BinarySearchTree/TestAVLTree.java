@@ -0,0 +1,112 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+import java.util.Random;
+import java.util.TreeSet;
+/**
+ * This class will test the AVLTree. Besides the usual BinarySearchTree behaviour it checks that
+ * the tree stays balanced on inputs that turn a plain BinarySearchTree into a list.
+ */
+public class TestAVLTree{
+	/**
+	 * AVLTree test fixture
+	 */
+	private AVLTree<Integer> tree;
+	/**
+	 * Before every test, preform the following setup
+	 */
+	@Before
+	public void setup(){
+		tree = new AVLTree<Integer>();
+	}
+	/**
+	 * Tests that the rotations on small inserts give the expected shapes
+	 */
+	@Test
+	public void rotationTest(){
+		tree.insert(1);
+		tree.insert(2);
+		tree.insert(3);
+		assertEquals("2 1 3",tree.breadthFirstTraverse());
+		tree.insert(5);
+		tree.insert(4);
+		assertEquals("2 1 4 3 5",tree.breadthFirstTraverse());
+		tree.insert(4);
+		assertEquals("1 2 3 4 5",tree.inOrderTraverse());
+		assertEquals(2,tree.height());
+	}
+	/**
+	 * Tests that sorted inserts give a tree of logarithmic height, deep enough to overflow the
+	 * stack of a plain BinarySearchTree
+	 */
+	@Test
+	public void sortedTest(){
+		int n = 100000;
+		for(int value = 0;value < n;value++)
+			tree.insert(value);
+		assertTrue(tree.height() <= 1.45 * Math.log(n) / Math.log(2));
+		assertEquals(tree.root.height(),tree.height());
+		assertTrue(tree.contains(n - 1));
+		assertFalse(tree.contains(n));
+		assertEquals(Integer.valueOf(0),tree.findMin());
+		assertEquals(Integer.valueOf(n - 1),tree.findMax());
+		for(int value = 0;value < n;value += 2)
+			tree.remove(value);
+		assertTrue(tree.height() <= 1.45 * Math.log(n / 2) / Math.log(2));
+		assertEquals(Integer.valueOf(1),tree.findMin());
+	}
+	/**
+	 * Tests random inserts and removals against a TreeSet
+	 */
+	@Test
+	public void randomTest(){
+		Random random = new Random(20);
+		TreeSet<Integer> set = new TreeSet<Integer>();
+		for(int step = 0;step < 20000;step++){
+			int value = random.nextInt(2000);
+			if(random.nextBoolean()){
+				tree.insert(value);
+				set.add(value);
+			}else{
+				tree.remove(value);
+				set.remove(value);
+			}
+			assertEquals(set.contains(value),tree.contains(value));
+		}
+		StringBuilder expected = new StringBuilder();
+		for(int value : set)
+			expected.append(" " + value);
+		assertEquals(expected.toString().trim(),tree.inOrderTraverse());
+		assertEquals(tree.root.height(),tree.height());
+		assertTrue(tree.height() <= 1.45 * Math.log(set.size() + 2) / Math.log(2));
+	}
+	/**
+	 * Tests removing everything and finding in an empty tree
+	 */
+	@Test(expected=IllegalStateException.class)
+	public void emptyTest(){
+		tree.insert(1);
+		tree.remove(1);
+		tree.remove(1);
+		assertTrue(tree.isEmpty());
+		assertEquals(0,tree.height());
+		tree.findMin(); //should raise exception
+	}
+	/**
+	 * Tests that a bulk loaded tree has its heights stored and keeps balancing afterwards
+	 */
+	@Test
+	public void loadTest(){
+		Integer[] values = new Integer[1000];
+		for(int i = 0;i < values.length;i++)
+			values[i] = 2 * i;
+		tree.loadSorted(values);
+		assertEquals(tree.root.height(),tree.height());
+		assertEquals(9,tree.height());
+		for(int value = 2000;value < 3000;value++)
+			tree.insert(value);
+		for(int value = 0;value < 1000;value += 2)
+			tree.remove(value);
+		assertEquals(tree.root.height(),tree.height());
+		assertTrue(tree.height() <= 1.45 * Math.log(1502) / Math.log(2));
+	}
+}
@@ -1,5 +1,12 @@
 import org.junit.Test;
 import static org.junit.Assert.*;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
 
 public class TestBinarySearchTree{
 	
@@ -95,4 +102,155 @@ public class TestBinarySearchTree{
 		tree.remove(3);
 		assertEquals("5", tree.inOrderTraverse());
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testRemoveTwoChildren(){
+		int nullSymbol = 0;
+		Integer[] seq = {5, 3, 9, 0, 0, 7, 10, 0, 0, 0, 0, 6, 8};
+		BinarySearchTree<Integer> tree = new BinarySearchTree<Integer>(seq, nullSymbol);
+		assertEquals("3 5 6 7 8 9 10", tree.inOrderTraverse());
+		tree.remove(5);
+		assertEquals("6 3 9 7 10 8", tree.breadthFirstTraverse());
+		tree.remove(9);
+		assertEquals("6 3 10 7 8", tree.preOrderTraverse());
+		tree.remove(4);
+		assertEquals("3 6 7 8 10", tree.inOrderTraverse());
+	}
+
+	@Test
+	public void testDeepTree(){
+		BinarySearchTree<Integer> tree = new BinarySearchTree<Integer>();
+		int n = 20000;
+		for(int value = 0; value < n; value++)
+			tree.insert(value);
+		assertTrue(tree.contains(n - 1));
+		assertFalse(tree.contains(n));
+		assertEquals(Integer.valueOf(0), tree.findMin());
+		assertEquals(Integer.valueOf(n - 1), tree.findMax());
+		for(int value = 0; value < n; value++)
+			tree.remove(value);
+		assertTrue(tree.isEmpty());
+	}
+
+	@Test
+	public void testRandom(){
+		BinarySearchTree<Integer> tree = new BinarySearchTree<Integer>();
+		TreeSet<Integer> set = new TreeSet<Integer>();
+		Random random = new Random(21);
+		for(int step = 0; step < 20000; step++){
+			int value = random.nextInt(1000);
+			if(random.nextBoolean()){
+				tree.insert(value);
+				set.add(value);
+			}else{
+				tree.remove(value);
+				set.remove(value);
+			}
+			assertEquals(set.contains(value), tree.contains(value));
+		}
+		StringBuilder expected = new StringBuilder();
+		for(int value : set)
+			expected.append(" " + value);
+		assertEquals(expected.toString().trim(), tree.inOrderTraverse());
+	}
+
+	@Test
+	public void testFromSorted(){
+		Integer[] seq = {1, 2, 2, 3, 4, 5, 6, 7, 7};
+		BinarySearchTree<Integer> tree = BinarySearchTree.fromSorted(seq);
+		assertEquals("1 2 3 4 5 6 7", tree.inOrderTraverse());
+		assertEquals("4 2 6 1 3 5 7", tree.breadthFirstTraverse());
+		assertEquals(2, tree.height());
+		tree.insert(0);
+		assertEquals(Integer.valueOf(0), tree.findMin());
+	}
+
+	@Test
+	public void testLoadSortedStream(){
+		BinarySearchTree<Integer> tree = new BinarySearchTree<Integer>();
+		tree.insert(-5);
+		int n = 1 << 16;
+		tree.loadSorted(IntStream.range(0, n).boxed());
+		assertEquals(16, tree.height());
+		assertFalse(tree.contains(-5));
+		assertEquals(Integer.valueOf(n - 1), tree.findMax());
+		tree.loadSorted(new Integer[0]);
+		assertTrue(tree.isEmpty());
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testFromSortedUnsorted(){
+		BinarySearchTree.fromSorted(new Integer[]{1, 3, 2}); //should raise exception
+	}
+
+	@Test
+	public void testFromUnsorted(){
+		Integer[] seq = {5, 3, 9, 3, 7, 1, 9};
+		BinarySearchTree<Integer> tree = BinarySearchTree.fromUnsorted(seq);
+		assertEquals("1 3 5 7 9", tree.inOrderTraverse());
+		assertEquals(2, tree.height());
+		assertEquals(Integer.valueOf(5), seq[0]);
+	}
+
+	@Test
+	public void testBounds(){
+		Integer[] seq = {10, 20, 30, 40, 50};
+		BinarySearchTree<Integer> tree = BinarySearchTree.fromSorted(seq);
+		assertEquals(Integer.valueOf(30), tree.ceiling(30));
+		assertEquals(Integer.valueOf(40), tree.ceiling(31));
+		assertEquals(Integer.valueOf(40), tree.higher(30));
+		assertEquals(Integer.valueOf(30), tree.floor(30));
+		assertEquals(Integer.valueOf(30), tree.floor(39));
+		assertEquals(Integer.valueOf(20), tree.lower(30));
+		assertNull(tree.higher(50));
+		assertNull(tree.lower(10));
+		assertNull(new BinarySearchTree<Integer>().ceiling(1));
+	}
+
+	@Test
+	public void testRange(){
+		Integer[] seq = {10, 20, 30, 40, 50};
+		BinarySearchTree<Integer> tree = BinarySearchTree.fromSorted(seq);
+		assertEquals(List.of(20, 30, 40), toList(tree.range(15, 45)));
+		assertEquals(List.of(40, 30, 20), toList(tree.descendingRange(15, 45)));
+		assertEquals(List.of(10, 20), toList(tree.range(null, 20)));
+		assertEquals(List.of(50, 40), toList(tree.descendingRange(40, null)));
+		assertEquals(List.of(), toList(tree.range(41, 49)));
+		assertEquals(List.of(), toList(tree.range(40, 30)));
+	}
+
+	@Test(expected=NoSuchElementException.class)
+	public void testRangeEnd(){
+		Iterator<Integer> range = new BinarySearchTree<Integer>().range(null, null);
+		assertFalse(range.hasNext());
+		range.next(); //should raise exception
+	}
+
+	@Test
+	public void testRandomRanges(){
+		BinarySearchTree<Integer> tree = new AVLTree<Integer>();
+		TreeSet<Integer> set = new TreeSet<Integer>();
+		Random random = new Random(24);
+		for(int i = 0; i < 2000; i++){
+			int value = random.nextInt(5000);
+			tree.insert(value);
+			set.add(value);
+		}
+		for(int i = 0; i < 500; i++){
+			int low = random.nextInt(5200) - 100;
+			int high = low + random.nextInt(600);
+			assertEquals(set.ceiling(low), tree.ceiling(low));
+			assertEquals(set.higher(low), tree.higher(low));
+			assertEquals(set.floor(low), tree.floor(low));
+			assertEquals(set.lower(low), tree.lower(low));
+			assertEquals(new ArrayList<Integer>(set.subSet(low, true, high, true)), toList(tree.range(low, high)));
+			assertEquals(new ArrayList<Integer>(set.subSet(low, true, high, true).descendingSet()), toList(tree.descendingRange(low, high)));
+		}
+	}
+
+	private static List<Integer> toList(Iterator<Integer> iterator){
+		List<Integer> values = new ArrayList<Integer>();
+		iterator.forEachRemaining(values::add);
+		return values;
+	}
+}
@@ -0,0 +1,119 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+/**
+ * This class will test the ConcurrentBinarySearchTree. The single threaded tests check it behaves
+ * like a BinarySearchTree, the stress test has readers check values that must always be found
+ * while writers keep rotating the tree around them.
+ */
+public class TestConcurrentBinarySearchTree{
+	/**
+	 * ConcurrentBinarySearchTree test fixture
+	 */
+	private ConcurrentBinarySearchTree<Integer> tree;
+	private static final int READERS = 6;
+	private static final int WRITERS = 2;
+	private static final int KEYS = 4000;
+	/**
+	 * Before every test, preform the following setup
+	 */
+	@Before
+	public void setup(){
+		tree = new ConcurrentBinarySearchTree<Integer>();
+	}
+	/**
+	 * Tests insert, remove, contains, findMin and findMax on one thread
+	 */
+	@Test
+	public void basicTest(){
+		assertTrue(tree.isEmpty());
+		for(int value : new int[]{5,3,8,1,4,9})
+			tree.insert(value);
+		assertFalse(tree.isEmpty());
+		assertTrue(tree.contains(4));
+		assertFalse(tree.contains(7));
+		assertEquals(Integer.valueOf(1),tree.findMin());
+		assertEquals(Integer.valueOf(9),tree.findMax());
+		tree.remove(1);
+		tree.remove(9);
+		assertEquals(Integer.valueOf(3),tree.findMin());
+		assertEquals(Integer.valueOf(8),tree.findMax());
+		assertEquals("3 4 5 8",tree.inOrderTraverse());
+	}
+	/**
+	 * Tests finding in an empty tree
+	 */
+	@Test(expected=IllegalStateException.class)
+	public void emptyTest(){
+		tree.findMax(); //should raise exception
+	}
+	/**
+	 * Tests readers against writers. The even keys are put in first and never removed, so every
+	 * read of one must find it, and the bounds never move since -1 and KEYS * 2 stay put too.
+	 * The writers insert and remove odd keys, which rotates the tree under the readers.
+	 */
+	@Test(timeout = 60000)
+	public void stressTest() throws InterruptedException{
+		tree.insert(-1);
+		tree.insert(2 * KEYS);
+		for(int value = 0;value < 2 * KEYS;value += 2)
+			tree.insert(value);
+		AtomicBoolean stop = new AtomicBoolean();
+		AtomicInteger failures = new AtomicInteger();
+		AtomicInteger reads = new AtomicInteger();
+		List<Thread> threads = new ArrayList<Thread>();
+		for(int r = 0;r < READERS;r++){
+			final int seed = r;
+			threads.add(new Thread(() -> {
+				Random random = new Random(seed);
+				while(!stop.get()){
+					if(!tree.contains(2 * random.nextInt(KEYS)))
+						failures.incrementAndGet();
+					if(tree.contains(-3))
+						failures.incrementAndGet();
+					if(tree.findMin() != -1 || tree.findMax() != 2 * KEYS)
+						failures.incrementAndGet();
+					reads.incrementAndGet();
+				}
+			}));
+		}
+		for(int w = 0;w < WRITERS;w++){
+			final int seed = 100 + w;
+			threads.add(new Thread(() -> {
+				Random random = new Random(seed);
+				for(int i = 0;i < 100000;i++){
+					int value = 2 * random.nextInt(KEYS) + 1;
+					if(random.nextBoolean())
+						tree.insert(value);
+					else
+						tree.remove(value);
+				}
+			}));
+		}
+		for(Thread thread : threads)
+			thread.start();
+		for(int t = READERS;t < threads.size();t++)
+			threads.get(t).join();
+		stop.set(true);
+		for(Thread thread : threads)
+			thread.join();
+		assertEquals(0,failures.get());
+		assertTrue(reads.get() > 0);
+		/* the tree is still a valid search tree holding every even key */
+		String[] values = tree.inOrderTraverse().split(" ");
+		int last = Integer.MIN_VALUE;
+		int evens = 0;
+		for(String value : values){
+			int parsed = Integer.parseInt(value);
+			assertTrue(parsed > last);
+			last = parsed;
+			if(parsed >= 0 && parsed < 2 * KEYS && parsed % 2 == 0)
+				evens++;
+		}
+		assertEquals(KEYS,evens);
+	}
+}
@@ -0,0 +1,90 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+/**
+ * This class will test the OrderStatisticTree against a TreeSet
+ */
+public class TestOrderStatisticTree{
+	/**
+	 * OrderStatisticTree test fixture
+	 */
+	private OrderStatisticTree<Integer> tree;
+	/**
+	 * Before every test, preform the following setup
+	 */
+	@Before
+	public void setup(){
+		tree = new OrderStatisticTree<Integer>();
+	}
+	/**
+	 * Tests select, rank and countRange on a small tree
+	 */
+	@Test
+	public void smallTest(){
+		assertEquals(0,tree.size());
+		for(int value : new int[]{50,20,80,10,30,70,90,30})
+			tree.insert(value);
+		assertEquals(7,tree.size());
+		assertEquals(Integer.valueOf(10),tree.select(0));
+		assertEquals(Integer.valueOf(50),tree.select(3));
+		assertEquals(Integer.valueOf(90),tree.select(6));
+		assertEquals(0,tree.rank(10));
+		assertEquals(3,tree.rank(50));
+		assertEquals(3,tree.rank(45));
+		assertEquals(7,tree.rank(100));
+		assertEquals(4,tree.countRange(20,70));
+		assertEquals(3,tree.countRange(21,70));
+		assertEquals(0,tree.countRange(70,20));
+		assertEquals(1,tree.countRange(30,30));
+		tree.remove(50);
+		assertEquals(6,tree.size());
+		assertEquals(Integer.valueOf(70),tree.select(3));
+	}
+	/**
+	 * Tests select past the end of the tree
+	 */
+	@Test(expected=IllegalArgumentException.class)
+	public void selectTest(){
+		tree.insert(1);
+		tree.select(1); //should raise exception
+	}
+	/**
+	 * Tests random inserts, removals and a bulk load against a TreeSet
+	 */
+	@Test
+	public void randomTest(){
+		Random random = new Random(23);
+		TreeSet<Integer> set = new TreeSet<Integer>();
+		for(int step = 0;step < 20000;step++){
+			int value = random.nextInt(3000);
+			if(random.nextInt(3) > 0){
+				tree.insert(value);
+				set.add(value);
+			}else{
+				tree.remove(value);
+				set.remove(value);
+			}
+		}
+		check(set);
+		Integer[] values = set.toArray(new Integer[0]);
+		tree.loadSorted(values);
+		check(set);
+	}
+	/**
+	 * A method to compare every order statistic of the fixture with a TreeSet
+	 * @param TreeSet<Integer> set The values the fixture should hold
+	 */
+	private void check(TreeSet<Integer> set){
+		assertEquals(set.size(),tree.size());
+		List<Integer> sorted = new ArrayList<Integer>(set);
+		for(int k = 0;k < sorted.size();k++)
+			assertEquals(sorted.get(k),tree.select(k));
+		for(int value = -1;value <= 3000;value += 7){
+			assertEquals(set.headSet(value).size(),tree.rank(value));
+			assertEquals(set.subSet(value,true,value + 100,true).size(),tree.countRange(value,value + 100));
+		}
+	}
+}
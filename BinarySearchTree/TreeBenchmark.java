@@ -0,0 +1,281 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+/**
+ * A small benchmark harness for the trees in this directory. It is not a test, it is run by hand:
+ *
+ *     java TreeBenchmark [section] [n]
+ *
+ * Every section times a workload a few times to warm the JIT up and then prints the throughput of
+ * the last round.
+ */
+public class TreeBenchmark{
+	/**
+	 * The number of rounds each workload is run, only the last one is reported
+	 */
+	private static final int ROUNDS = 5;
+	/**
+	 * The most sorted values given to a plain BinarySearchTree, which turns into a list on them so
+	 * every operation is O(n)
+	 */
+	private static final int UNBALANCED_LIMIT = 5000;
+	/**
+	 * A workload of the benchmark. Returns a value so the JIT cannot throw the work away.
+	 */
+	interface Workload{
+		long run();
+	}
+	/**
+	 * A maker of an empty tree to run a workload on
+	 */
+	interface TreeMaker{
+		BinarySearchTree<Integer> make();
+	}
+	/**
+	 * Runs the requested section of the benchmark, or every section if none is given
+	 * @param String[] args The section name and the number of values to use
+	 */
+	public static void main(String[] args){
+		String section = args.length > 0 ? args[0] : "all";
+		int n = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+		if(section.equals("all") || section.equals("sorted"))
+			sorted(n);
+		if(section.equals("all") || section.equals("random"))
+			random(n);
+		if(section.equals("all") || section.equals("load"))
+			load(n);
+		if(section.equals("all") || section.equals("order"))
+			order(n);
+		if(section.equals("all") || section.equals("range"))
+			range(n);
+		if(section.equals("all") || section.equals("concurrent"))
+			concurrent(n);
+	}
+	/**
+	 * Compares the trees on values inserted in sorted order, then looked up and removed
+	 * @param int n The number of values
+	 */
+	static void sorted(int n){
+		int[] values = new int[n];
+		for(int i = 0;i < n;i++)
+			values[i] = i;
+		int small = Math.min(n,UNBALANCED_LIMIT);
+		int[] few = Arrays.copyOf(values,small);
+		insertLookupRemove("BinarySearchTree sorted " + small,few,BinarySearchTree::new);
+		insertLookupRemove("AVLTree sorted " + small,few,AVLTree::new);
+		insertLookupRemove("AVLTree sorted " + n,values,AVLTree::new);
+	}
+	/**
+	 * Compares the trees on values inserted in random order, then looked up and removed
+	 * @param int n The number of values
+	 */
+	static void random(int n){
+		int[] values = new int[n];
+		Random random = new Random(42);
+		for(int i = 0;i < n;i++)
+			values[i] = random.nextInt();
+		insertLookupRemove("BinarySearchTree random " + n,values,BinarySearchTree::new);
+		insertLookupRemove("AVLTree random " + n,values,AVLTree::new);
+	}
+	/**
+	 * Compares building a tree of sorted values by inserting them into an AVLTree against bulk
+	 * loading them, and bulk loading them from a shuffled copy
+	 * @param int n The number of values
+	 */
+	static void load(int n){
+		Integer[] sorted = new Integer[n];
+		for(int i = 0;i < n;i++)
+			sorted[i] = i;
+		Integer[] shuffled = sorted.clone();
+		Random random = new Random(42);
+		for(int i = n - 1;i > 0;i--){
+			int j = random.nextInt(i + 1);
+			Integer swap = shuffled[i];
+			shuffled[i] = shuffled[j];
+			shuffled[j] = swap;
+		}
+		measure("AVLTree insert sorted " + n,n,() -> {
+			AVLTree<Integer> tree = new AVLTree<Integer>();
+			for(Integer value : sorted)
+				tree.insert(value);
+			return tree.findMin();
+		});
+		measure("loadSorted " + n,n,() -> BinarySearchTree.fromSorted(sorted).findMin());
+		measure("loadUnsorted " + n,n,() -> BinarySearchTree.fromUnsorted(shuffled).findMin());
+	}
+	/**
+	 * Compares finding the k-th smallest value by splitting the in order traversal against select
+	 * on an OrderStatisticTree
+	 * @param int n The number of values in the tree
+	 */
+	static void order(int n){
+		Integer[] values = new Integer[n];
+		for(int i = 0;i < n;i++)
+			values[i] = 2 * i;
+		OrderStatisticTree<Integer> tree = new OrderStatisticTree<Integer>();
+		tree.loadSorted(values);
+		final int traversals = 10;
+		measure("inOrderTraverse k-th " + n,traversals,() -> {
+			long sum = 0;
+			Random random = new Random(42);
+			for(int i = 0;i < traversals;i++)
+				sum += Integer.parseInt(tree.inOrderTraverse().split(" ")[random.nextInt(n)]);
+			return sum;
+		});
+		measure("select and rank " + n,2 * n,() -> {
+			long sum = 0;
+			Random random = new Random(42);
+			for(int i = 0;i < n;i++){
+				sum += tree.select(random.nextInt(n));
+				sum += tree.rank(random.nextInt(2 * n));
+			}
+			return sum;
+		});
+	}
+	/**
+	 * Compares scanning 100 values of a range by filtering the in order traversal against the
+	 * range iterator
+	 * @param int n The number of values in the tree
+	 */
+	static void range(int n){
+		Integer[] values = new Integer[n];
+		for(int i = 0;i < n;i++)
+			values[i] = i;
+		BinarySearchTree<Integer> tree = BinarySearchTree.fromSorted(values);
+		final int scans = 10;
+		measure("inOrderTraverse filter " + n,scans,() -> {
+			long sum = 0;
+			Random random = new Random(42);
+			for(int i = 0;i < scans;i++){
+				int low = random.nextInt(n);
+				for(String value : tree.inOrderTraverse().split(" ")){
+					int parsed = Integer.parseInt(value);
+					if(parsed >= low && parsed < low + 100)
+						sum += parsed;
+				}
+			}
+			return sum;
+		});
+		measure("range iterator " + n,n,() -> {
+			long sum = 0;
+			Random random = new Random(42);
+			for(int i = 0;i < n;i++){
+				int low = random.nextInt(n);
+				for(Iterator<Integer> range = tree.range(low,low + 99);range.hasNext();)
+					sum += range.next();
+			}
+			return sum;
+		});
+	}
+	/**
+	 * Compares an AVLTree behind synchronized against the ConcurrentBinarySearchTree on a mix of
+	 * 95% contains and 5% insert or remove, with more and more threads
+	 * @param int n The number of values in the trees and the operations per run
+	 */
+	static void concurrent(int n){
+		for(int threads = 1;threads <= 16;threads *= 2){
+			final AVLTree<Integer> locked = new AVLTree<Integer>();
+			final ConcurrentBinarySearchTree<Integer> optimistic = new ConcurrentBinarySearchTree<Integer>();
+			for(int value = 0;value < n;value++){
+				locked.insert(value);
+				optimistic.insert(value);
+			}
+			measureThreads("synchronized AVLTree",threads,n,() -> {
+				ThreadLocalRandom random = ThreadLocalRandom.current();
+				int value = random.nextInt(n);
+				int action = random.nextInt(40);
+				synchronized(locked){
+					if(action == 0)
+						locked.insert(value);
+					else if(action == 1)
+						locked.remove(value);
+					else
+						return locked.contains(value) ? 1 : 0;
+				}
+				return 0;
+			});
+			measureThreads("ConcurrentBinarySearchTree",threads,n,() -> {
+				ThreadLocalRandom random = ThreadLocalRandom.current();
+				int value = random.nextInt(n);
+				int action = random.nextInt(40);
+				if(action == 0)
+					optimistic.insert(value);
+				else if(action == 1)
+					optimistic.remove(value);
+				else
+					return optimistic.contains(value) ? 1 : 0;
+				return 0;
+			});
+		}
+	}
+	/**
+	 * A method to time an operation run by several threads at once and print the throughput
+	 * @param String name The label to print, int threads The number of threads, int ops The total
+	 * operations split over the threads, Workload work One operation
+	 */
+	static void measureThreads(String name, int threads, int ops, Workload work){
+		final int perThread = Math.max(1,ops / threads);
+		long elapsed = 0;
+		long[] sink = new long[threads];
+		for(int round = 0;round < ROUNDS;round++){
+			Thread[] workers = new Thread[threads];
+			for(int t = 0;t < threads;t++){
+				final int id = t;
+				workers[t] = new Thread(() -> {
+					long sum = 0;
+					for(int i = 0;i < perThread;i++)
+						sum += work.run();
+					sink[id] += sum;
+				});
+			}
+			long start = System.nanoTime();
+			for(Thread worker : workers)
+				worker.start();
+			try{
+				for(Thread worker : workers)
+					worker.join();
+			}catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+				return;
+			}
+			elapsed = System.nanoTime() - start;
+		}
+		System.out.printf("%-28s %2d threads %12.0f ops/s  (%d)%n",name,threads,perThread * threads / (elapsed / 1e9),sink[0] & 1);
+	}
+	/**
+	 * A method to time inserting every value into a new tree, looking every value up and then
+	 * removing every value
+	 * @param String name, int[] values, TreeMaker maker The label to print, the values and the
+	 * kind of tree
+	 */
+	static void insertLookupRemove(String name, int[] values, TreeMaker maker){
+		measure(name,3 * values.length,() -> {
+			BinarySearchTree<Integer> tree = maker.make();
+			for(int value : values)
+				tree.insert(value);
+			long found = 0;
+			for(int value : values)
+				if(tree.contains(value))
+					found++;
+			for(int value : values)
+				tree.remove(value);
+			return found;
+		});
+	}
+	/**
+	 * A method to time a workload and print its throughput
+	 * @param String name The label to print, int ops The operations done by one run, Workload work
+	 * the workload itself
+	 */
+	static void measure(String name, int ops, Workload work){
+		long sink = 0;
+		long elapsed = 0;
+		for(int round = 0;round < ROUNDS;round++){
+			long start = System.nanoTime();
+			sink += work.run();
+			elapsed = System.nanoTime() - start;
+		}
+		System.out.printf("%-34s %12.0f ops/s  (%d)%n",name,ops / (elapsed / 1e9),sink & 1);
+	}
+}
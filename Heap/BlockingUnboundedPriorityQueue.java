@@ -0,0 +1,272 @@
+import java.lang.Comparable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+/**
+ * A thread-safe UnboundedPriorityQueue whose consumers wait for a value instead of polling
+ * isEmpty and catching IllegalStateException. Waiting is done with a ReentrantLock and its
+ * Conditions rather than synchronized, so a virtual thread that waits unmounts from its carrier
+ * thread instead of pinning it.
+ *
+ * The queue has no size limit unless one is given, in which case producers wait for room the same
+ * way consumers wait for values. Every operation wakes at most one waiting thread per condition,
+ * one consumer and one producer, and a woken thread wakes the next one if there is still something
+ * for it to do, so a batch take or a burst of enqueues never wakes every waiter at once.
+ */
+public class BlockingUnboundedPriorityQueue<T extends Comparable<? super T>>{
+	/**
+	 * The members of this class are the heap, its lock, the conditions waited on and the size limit
+	 */
+	private final PriorityHeap<T> heap;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition notEmpty = lock.newCondition();
+	private final Condition notFull = lock.newCondition();
+	private final int capacity;
+	/**
+	 * Default constructor, makes a queue with no size limit backed by a MinHeap
+	 */
+	public BlockingUnboundedPriorityQueue(){
+		this(new MinHeap<T>(),Integer.MAX_VALUE);
+	}
+	/**
+	 * Constructor that limits the number of values the queue will hold, producers wait in put
+	 * when it is reached
+	 * @param int capacity The most values the queue may hold
+	 * @throws IllegalArgumentException() if the capacity is not positive
+	 */
+	public BlockingUnboundedPriorityQueue(int capacity){
+		this(new MinHeap<T>(),capacity);
+	}
+	/**
+	 * Constructor that backs the queue with another PriorityHeap and picks the size limit, which
+	 * is Integer.MAX_VALUE for no limit
+	 * @param PriorityHeap<T> heap, int capacity The heap the queue will use and the most values
+	 * the queue may hold
+	 * @throws IllegalArgumentException() if the heap is null or the capacity is not positive
+	 */
+	public BlockingUnboundedPriorityQueue(PriorityHeap<T> heap, int capacity){
+		if(heap == null)
+			throw new IllegalArgumentException("The heap can not be null");
+		if(capacity <= 0)
+			throw new IllegalArgumentException("The capacity must be positive");
+		this.heap = heap;
+		this.capacity = capacity;
+	}
+	/**
+	 * A method to enqueue a value, waiting for room if the queue is at its size limit
+	 * @param T value The value you wish to enqueue into the PriorityQueue
+	 * @throws InterruptedException() if the thread is interrupted while waiting
+	 */
+	public void put(T value) throws InterruptedException{
+		lock.lockInterruptibly();
+		try{
+			while(heap.size() >= capacity)
+				notFull.await();
+			insert(value);
+		}finally{
+			lock.unlock();
+		}
+	}
+	/**
+	 * A method to enqueue a value only if the queue is below its size limit
+	 * @param T value The value you wish to enqueue into the PriorityQueue
+	 * @return boolean Represents if the value was enqueued
+	 */
+	public boolean offer(T value){
+		lock.lock();
+		try{
+			if(heap.size() >= capacity)
+				return false;
+			insert(value);
+			return true;
+		}finally{
+			lock.unlock();
+		}
+	}
+	/**
+	 * A method to enqueue a value, waiting up to a timeout for room if the queue is at its size
+	 * limit
+	 * @param T value, long timeout, TimeUnit unit The value to enqueue and how long to wait
+	 * @return boolean Represents if the value was enqueued before the timeout
+	 * @throws InterruptedException() if the thread is interrupted while waiting
+	 */
+	public boolean offer(T value, long timeout, TimeUnit unit) throws InterruptedException{
+		long nanos = unit.toNanos(timeout);
+		lock.lockInterruptibly();
+		try{
+			while(heap.size() >= capacity){
+				if(nanos <= 0)
+					return false;
+				nanos = notFull.awaitNanos(nanos);
+			}
+			insert(value);
+			return true;
+		}finally{
+			lock.unlock();
+		}
+	}
+	/**
+	 * A method to dequeue the minimum, waiting for a value if the queue is empty
+	 * @return T The value you removed from the PriorityQueue
+	 * @throws InterruptedException() if the thread is interrupted while waiting
+	 */
+	public T take() throws InterruptedException{
+		lock.lockInterruptibly();
+		try{
+			while(heap.isEmpty())
+				notEmpty.await();
+			return remove();
+		}finally{
+			lock.unlock();
+		}
+	}
+	/**
+	 * A method to dequeue the minimum without waiting
+	 * @return T The value you removed from the PriorityQueue, or null if it is empty
+	 */
+	public T poll(){
+		lock.lock();
+		try{
+			return heap.isEmpty() ? null : remove();
+		}finally{
+			lock.unlock();
+		}
+	}
+	/**
+	 * A method to dequeue the minimum, waiting up to a timeout for a value if the queue is empty
+	 * @param long timeout, TimeUnit unit How long to wait
+	 * @return T The value you removed from the PriorityQueue, or null if the timeout passed first
+	 * @throws InterruptedException() if the thread is interrupted while waiting
+	 */
+	public T poll(long timeout, TimeUnit unit) throws InterruptedException{
+		long nanos = unit.toNanos(timeout);
+		lock.lockInterruptibly();
+		try{
+			while(heap.isEmpty()){
+				if(nanos <= 0)
+					return null;
+				nanos = notEmpty.awaitNanos(nanos);
+			}
+			return remove();
+		}finally{
+			lock.unlock();
+		}
+	}
+	/**
+	 * A method to dequeue up to max of the smallest values at once, waiting if the queue is empty.
+	 * The values are removed under one acquisition of the lock and wake at most one other consumer
+	 * and one producer.
+	 * @param int max The most values to dequeue
+	 * @return List<T> Between one and max values in order
+	 * @throws InterruptedException() if the thread is interrupted while waiting
+	 * @throws IllegalArgumentException() if max is not positive
+	 */
+	public List<T> takeBatch(int max) throws InterruptedException{
+		if(max <= 0)
+			throw new IllegalArgumentException("The batch must hold at least one value");
+		lock.lockInterruptibly();
+		try{
+			while(heap.isEmpty())
+				notEmpty.await();
+			List<T> batch = new ArrayList<T>(Math.min(max,heap.size()));
+			heap.drainTo(batch,max);
+			signalAfterRemove();
+			return batch;
+		}finally{
+			lock.unlock();
+		}
+	}
+	/**
+	 * A method to dequeue up to max of the smallest values into a collection without waiting. Like
+	 * takeBatch it wakes at most one consumer and one producer.
+	 * @param Collection<? super T> sink, int max Where the values go and the most to dequeue
+	 * @return int The number of values dequeued
+	 */
+	public int drainTo(Collection<? super T> sink, int max){
+		lock.lock();
+		try{
+			int count = heap.drainTo(sink,max);
+			if(count > 0)
+				signalAfterRemove();
+			return count;
+		}finally{
+			lock.unlock();
+		}
+	}
+	/**
+	 * A method to look at the minimum without removing it
+	 * @return T The minimum value, or null if the queue is empty
+	 */
+	public T peek(){
+		lock.lock();
+		try{
+			return heap.findMin();
+		}finally{
+			lock.unlock();
+		}
+	}
+	/**
+	 * A method to count the values in the queue. Other threads may change the answer as soon as
+	 * it is returned.
+	 * @return int The number of values in the queue
+	 */
+	public int size(){
+		lock.lock();
+		try{
+			return heap.size();
+		}finally{
+			lock.unlock();
+		}
+	}
+	/**
+	 * A method to determine if the queue is empty. Other threads may change the answer as soon as
+	 * it is returned.
+	 * @return boolean Represents if the queue is empty
+	 */
+	public boolean isEmpty(){
+		return size() == 0;
+	}
+	/**
+	 * A method to find how many more values fit before put has to wait
+	 * @return int The room left, Integer.MAX_VALUE if there is no size limit
+	 */
+	public int remainingCapacity(){
+		if(capacity == Integer.MAX_VALUE)
+			return Integer.MAX_VALUE;
+		return capacity - size();
+	}
+	/**
+	 * A method to insert a value and wake one consumer, and one producer if there is still room,
+	 * the lock must be held
+	 * @param T value The value to insert
+	 */
+	private void insert(T value){
+		heap.insert(value);
+		notEmpty.signal();
+		/* a producer woken by a batch take passes the room on to the next producer */
+		if(heap.size() < capacity)
+			notFull.signal();
+	}
+	/**
+	 * A method to remove the minimum and wake one producer, and one consumer if values are left,
+	 * the lock must be held
+	 * @return T The removed value
+	 */
+	private T remove(){
+		T value = heap.remove();
+		signalAfterRemove();
+		return value;
+	}
+	/**
+	 * A method to wake the threads a removal may have unblocked, the lock must be held
+	 */
+	private void signalAfterRemove(){
+		notFull.signal();
+		/* a consumer woken by a burst of enqueues passes what is left on to the next consumer */
+		if(!heap.isEmpty())
+			notEmpty.signal();
+	}
+}
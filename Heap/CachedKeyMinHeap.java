@@ -0,0 +1,173 @@
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.ToLongFunction;
+/**
+ * A MinHeap that orders its items by a long key pulled out of each item once, when it is
+ * inserted. The keys are kept in a long[] next to the items so percolation compares primitives
+ * instead of calling an expensive compareTo. An optional Comparator breaks ties between items
+ * with the same key, it is only called when two keys are equal.
+ */
+public class CachedKeyMinHeap<T>{
+	/**
+	 * The members of the CachedKeyMinHeap class are the size, the items, their keys at the same
+	 * indexes, the function that makes a key and the tie breaker which may be null
+	 */
+	private static final int DEFAULT_SIZE = 13;
+	private int size;
+	private T[] array;
+	private long[] keys;
+	private final ToLongFunction<? super T> keyFunction;
+	private final Comparator<? super T> tieBreak;
+	/**
+	 * Constructor that orders the items only by their key
+	 * @param ToLongFunction<? super T> keyFunction The function that makes the key of an item
+	 */
+	public CachedKeyMinHeap(ToLongFunction<? super T> keyFunction){
+		this(DEFAULT_SIZE,keyFunction,null);
+	}
+	/**
+	 * Constructor that orders the items by their key and then by a tie breaker
+	 * @param ToLongFunction<? super T> keyFunction, Comparator<? super T> tieBreak The function
+	 * that makes the key of an item and the comparator used when two keys are equal
+	 */
+	public CachedKeyMinHeap(ToLongFunction<? super T> keyFunction, Comparator<? super T> tieBreak){
+		this(DEFAULT_SIZE,keyFunction,tieBreak);
+	}
+	/**
+	 * Constuctor that intializes the size of the heap to the value specified
+	 * @param int i, ToLongFunction<? super T> keyFunction, Comparator<? super T> tieBreak The size
+	 * of the heap, the function that makes the key of an item and the comparator used when two
+	 * keys are equal, which may be null
+	 */
+	@SuppressWarnings("unchecked")
+	public CachedKeyMinHeap(int i, ToLongFunction<? super T> keyFunction, Comparator<? super T> tieBreak){
+		if(keyFunction == null)
+			throw new IllegalArgumentException("The key function can not be null");
+		this.size = 0;
+		this.array = (T[]) new Object[i+1];
+		this.keys = new long[i+1];
+		this.keyFunction = keyFunction;
+		this.tieBreak = tieBreak;
+	}
+	/**
+	 * A method to determine if the heap is empty
+	 * @return boolean Represents if the heap is empty
+	 */
+	public boolean isEmpty(){
+		return size == 0;
+	}
+	/**
+	 * A method to return the number of items in the heap
+	 * @return int The number of items in the heap
+	 */
+	public int size(){
+		return size;
+	}
+	/**
+	 * A method to find the minimum item of the heap without removing it
+	 * @return T The minimum item of the heap, or null if it is empty
+	 */
+	public T findMin(){
+		if(isEmpty())
+			return null;
+		return array[1];
+	}
+	/**
+	 * A method to find the key of the minimum item of the heap
+	 * @return long The key of the minimum item
+	 * @throws IllegalStateException() If the heap is empty
+	 */
+	public long findMinKey(){
+		if(isEmpty())
+			throw new IllegalStateException();
+		return keys[1];
+	}
+	/**
+	 * A method to return the heap as a string
+	 * @return string The heap as a printable string
+	 */
+	public String toString(){
+		StringBuilder string = new StringBuilder();
+		for(int i = 1;i <= this.size;i++)
+			string.append(" " + array[i]);
+		return string.toString().trim();
+	}
+	/**
+	 * A method to decide if one item comes before another
+	 * @param long key, T item, long otherKey, T other The key and item to test and the key and
+	 * item to test them against
+	 * @return boolean Represents if the first item belongs above the other one
+	 */
+	private boolean less(long key, T item, long otherKey, T other){
+		if(key != otherKey)
+			return key < otherKey;
+		/* the keys are equal so this is the only time the tie breaker is called */
+		return tieBreak != null && tieBreak.compare(item,other) < 0;
+	}
+	/**
+	 * A method to insert an item into the heap, its key is computed here and never again
+	 * @param T value The item you wish to insert
+	 * @ensure The heap is now larger by one item
+	 */
+	public void insert(T value){
+		long key = keyFunction.applyAsLong(value);
+		/* grow both arrays together when they are full */
+		if(size == array.length - 1){
+			array = Arrays.copyOf(array,array.length * 2 + 1);
+			keys = Arrays.copyOf(keys,array.length);
+		}
+		int hole = ++size;
+		/* index 0 holds the item and key so the loop always stops at the root */
+		array[0] = value;
+		keys[0] = key;
+		for(;less(key,value,keys[hole / 2],array[hole / 2]);hole /= 2){
+			array[hole] = array[hole / 2];
+			keys[hole] = keys[hole / 2];
+		}
+		array[0] = null;
+		array[hole] = value;
+		keys[hole] = key;
+	}
+	/**
+	 * A method to delete from the heap
+	 * @return T value The item you just removed
+	 * @ensure The heap is now one less in size
+	 * @throws IllegalStateException() If the heap is empty
+	 */
+	public T remove(){
+		if(isEmpty())
+			throw new IllegalStateException();
+		T item = array[1];
+		/* move the last item and its key to the root and let it fall into place */
+		array[1] = array[size];
+		keys[1] = keys[size];
+		array[size--] = null;
+		moveValueDown(1);
+		return item;
+	}
+	/**
+	 * A method to check if the root of a subtree in the heap is following the MinHeap structure
+	 * @param int index The hole we need to move down
+	 * @ensure The item at the index of hole is in keeping with the structure of the MinHeap
+	 */
+	private void moveValueDown(int index){
+		int child;
+		T item = array[index];
+		long key = keys[index];
+		for(;index * 2 <= size;index = child){
+			child = index * 2;
+			/* pick the smaller child by its key */
+			if(child != size && less(keys[child + 1],array[child + 1],keys[child],array[child]))
+				child++;
+			/* the child comes before the item so it moves up and the hole moves down */
+			if(less(keys[child],array[child],key,item)){
+				array[index] = array[child];
+				keys[index] = keys[child];
+			}
+			else
+				break;
+		}
+		array[index] = item;
+		keys[index] = key;
+	}
+}
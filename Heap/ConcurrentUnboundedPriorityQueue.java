@@ -0,0 +1,236 @@
+import java.lang.Comparable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+/**
+ * A thread-safe UnboundedPriorityQueue that spreads its items over a striped set of MinHeaps
+ * (a MultiQueue). Each MinHeap is guarded by its own lock so threads working on different shards
+ * never contend.
+ *
+ * In the default relaxed mode, enqueue puts the value into a random shard and dequeue removes the
+ * smaller of the minimums of two randomly chosen shards. The value returned is then one of the
+ * smallest in the queue, but not always the very smallest. In strict mode dequeue locks every
+ * shard and removes the exact minimum, which is correct but does not scale.
+ */
+public class ConcurrentUnboundedPriorityQueue<T extends Comparable<? super T>>{
+	/**
+	 * The members of this class are the shards and whether dequeue has to return the exact minimum
+	 */
+	private static final int SHARDS_PER_THREAD = 2;
+	/* how many times enqueue and dequeue try to find a free shard before they wait for one */
+	private static final int TRY_LOCK_ATTEMPTS = 4;
+	private final Shard<T>[] shards;
+	private final boolean strict;
+	/**
+	 * Default constructor, makes a relaxed queue with two shards per available processor
+	 */
+	public ConcurrentUnboundedPriorityQueue(){
+		this(false);
+	}
+	/**
+	 * Constructor that picks relaxed or strict ordering with two shards per available processor
+	 * @param boolean strict If dequeue must always return the exact minimum
+	 */
+	public ConcurrentUnboundedPriorityQueue(boolean strict){
+		this(SHARDS_PER_THREAD * Runtime.getRuntime().availableProcessors(),strict);
+	}
+	/**
+	 * Constructor that picks the number of shards and the ordering
+	 * @param int shards, boolean strict The number of internal MinHeaps and if dequeue must always
+	 * return the exact minimum
+	 * @throws IllegalArgumentException() if there are fewer than two shards
+	 */
+	@SuppressWarnings({"unchecked","rawtypes"})
+	public ConcurrentUnboundedPriorityQueue(int shards, boolean strict){
+		if(shards < 2)
+			throw new IllegalArgumentException("There must be at least two shards");
+		this.strict = strict;
+		this.shards = (Shard<T>[]) new Shard[shards];
+		for(int i = 0;i < shards;i++)
+			this.shards[i] = new Shard<T>();
+	}
+	/**
+	 * A method to determine if the queue is in strict mode
+	 * @return boolean Represents if dequeue always returns the exact minimum
+	 */
+	public boolean isStrict(){
+		return strict;
+	}
+	/**
+	 * A method to enqueue a value into the PriorityQueue
+	 * @param T value The value you wish to enqueue into the PriorityQueue
+	 */
+	public void enqueue(T value){
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		/* try a few random shards without waiting, any of them is as good as the others */
+		for(int attempt = 0;attempt < TRY_LOCK_ATTEMPTS;attempt++){
+			Shard<T> shard = shards[random.nextInt(shards.length)];
+			if(shard.tryLock()){
+				try{
+					shard.insert(value);
+				}finally{
+					shard.unlock();
+				}
+				return;
+			}
+		}
+		/* every shard we tried was busy so wait for the last random one */
+		Shard<T> shard = shards[random.nextInt(shards.length)];
+		shard.lock();
+		try{
+			shard.insert(value);
+		}finally{
+			shard.unlock();
+		}
+	}
+	/**
+	 * A method to dequeue a value from the PriorityQueue
+	 * @return T The value you removed from the PriorityQueue
+	 * @throws IllegalStateException() if every shard of the PriorityQueue is empty
+	 */
+	public T dequeue(){
+		return strict ? dequeueStrict() : dequeueRelaxed();
+	}
+	/**
+	 * A method to dequeue the smaller minimum of two random shards. If no shard looks like it has
+	 * a value the queue falls back to a strict dequeue, so it is only reported empty when every
+	 * shard was empty at one instant.
+	 * @return T The value you removed from the PriorityQueue
+	 * @throws IllegalStateException() if every shard of the PriorityQueue is empty
+	 */
+	private T dequeueRelaxed(){
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		for(int attempt = 0;;attempt++){
+			/* pick two different shards and look at their minimums without locking */
+			int first = random.nextInt(shards.length);
+			int second = random.nextInt(shards.length - 1);
+			if(second >= first)
+				second++;
+			Shard<T> shard = better(shards[first],shards[second]);
+			/* both were empty so look for any shard that is not. The scan takes no locks, so a
+			 * value can move past it between shards, and it only decides emptiness once every
+			 * shard is locked at the same time */
+			if(shard == null && (shard = anyNonEmpty(random.nextInt(shards.length))) == null)
+				return dequeueStrict();
+			/* if another thread holds it, pick again rather than wait unless that already
+			 * failed a few times */
+			if(attempt < TRY_LOCK_ATTEMPTS){
+				if(!shard.tryLock())
+					continue;
+			}else
+				shard.lock();
+			try{
+				/* another thread may have emptied it since we looked */
+				if(!shard.heap.isEmpty())
+					return shard.remove();
+			}finally{
+				shard.unlock();
+			}
+		}
+	}
+	/**
+	 * A method to dequeue the exact minimum by locking every shard
+	 * @return T The value you removed from the PriorityQueue
+	 * @throws IllegalStateException() if the PriorityQueue is empty
+	 */
+	private T dequeueStrict(){
+		/* always lock in index order so two strict dequeues can not deadlock */
+		for(Shard<T> shard : shards)
+			shard.lock();
+		try{
+			Shard<T> min = null;
+			for(Shard<T> shard : shards)
+				if(!shard.heap.isEmpty() && (min == null || shard.top.compareTo(min.top) < 0))
+					min = shard;
+			if(min == null)
+				throw new IllegalStateException("The PriorityQueue is empty");
+			return min.remove();
+		}finally{
+			for(Shard<T> shard : shards)
+				shard.unlock();
+		}
+	}
+	/**
+	 * A method to pick the shard with the smaller minimum
+	 * @param Shard<T> a, Shard<T> b The two shards to compare
+	 * @return Shard<T> The shard with the smaller minimum, or null if both are empty
+	 */
+	private Shard<T> better(Shard<T> a, Shard<T> b){
+		/* read each top once since other threads may change them */
+		T topA = a.top;
+		T topB = b.top;
+		if(topA == null)
+			return topB == null ? null : b;
+		if(topB == null)
+			return a;
+		return topB.compareTo(topA) < 0 ? b : a;
+	}
+	/**
+	 * A method to find a shard that is not empty, starting the search at a given shard
+	 * @param int start The index of the first shard to look at
+	 * @return Shard<T> A shard that looked non empty, or null if they all looked empty
+	 */
+	private Shard<T> anyNonEmpty(int start){
+		for(int i = 0;i < shards.length;i++){
+			Shard<T> shard = shards[(start + i) % shards.length];
+			if(shard.top != null)
+				return shard;
+		}
+		return null;
+	}
+	/**
+	 * A method to determine if the queue is empty. Other threads may change the answer as soon as
+	 * it is returned.
+	 * @return boolean Represents if every shard is empty
+	 */
+	public boolean isEmpty(){
+		for(Shard<T> shard : shards)
+			if(shard.top != null)
+				return false;
+		return true;
+	}
+	/**
+	 * A method to count the values in the queue. Other threads may change the answer as soon as
+	 * it is returned.
+	 * @return int The number of values across every shard
+	 */
+	public int size(){
+		int size = 0;
+		for(Shard<T> shard : shards)
+			size += shard.size;
+		return size;
+	}
+	/**
+	 * A shard of the queue. It is its own lock and it publishes its minimum and size in volatile
+	 * fields so other threads can read them without locking.
+	 */
+	@SuppressWarnings("serial")
+	private static class Shard<T extends Comparable<? super T>> extends ReentrantLock{
+		private final MinHeap<T> heap = new MinHeap<T>();
+		private volatile T top;
+		private volatile int size;
+		/**
+		 * A method to insert into the shard, the caller must hold the lock
+		 * @param T value The value to insert
+		 */
+		void insert(T value){
+			heap.insert(value);
+			publish();
+		}
+		/**
+		 * A method to remove the minimum of the shard, the caller must hold the lock
+		 * @return T The minimum of the shard
+		 */
+		T remove(){
+			T item = heap.remove();
+			publish();
+			return item;
+		}
+		/**
+		 * A method to update the published minimum and size after the heap changed
+		 */
+		private void publish(){
+			top = heap.findMin();
+			size = heap.size();
+		}
+	}
+}
@@ -0,0 +1,350 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.Comparable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+/**
+ * A priority queue that can hold more values than fit in memory. Values go into a MinHeap of a
+ * bounded size, and whenever it is full its values are written out in order as a sorted run file.
+ * The runs are read back through a small buffer each and their heads are kept in a second MinHeap
+ * which acts as a k-way merge, so dequeue returns the smaller of the in-memory minimum and the
+ * smallest run head. When there are too many runs the newest, smallest ones are merged into one,
+ * which keeps the number of read buffers, and so the memory used, bounded no matter how much data
+ * goes through. All file reads and writes are sequential.
+ *
+ * The merges are tiered. Every run has a level, the number of merges its values went through, and
+ * a merge only takes the runs of the lowest level that has two of them, along with the single runs
+ * below it. The large runs of the higher levels are left alone, so each value is rewritten about
+ * once per level, a logarithmic number of times, rather than every time the runs are merged.
+ *
+ * Values are stored as fixed-width records through a RecordCodec. The queue is not thread-safe
+ * and should be closed to delete its run files.
+ */
+public class ExternalPriorityQueue<T extends Comparable<? super T>> implements AutoCloseable{
+	/**
+	 * The members of this class are the in-memory heap and its limit, the codec, the directory of
+	 * the run files, the merge heap of runs, the most runs kept before they are merged, the size of
+	 * each run's buffer and the number of values in the queue
+	 */
+	private static final int DEFAULT_MAX_RUNS = 64;
+	private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+	private final int memoryLimit;
+	private final MinHeap<T> heap;
+	private final RecordCodec<T> codec;
+	private final Path directory;
+	private final boolean ownsDirectory;
+	private final MinHeap<Run> runs = new MinHeap<Run>();
+	private final int maxRuns;
+	private final int bufferSize;
+	private long size;
+	private long nextRun;
+	/**
+	 * Constructor that keeps the run files in a new temporary directory
+	 * @param int memoryLimit, RecordCodec<T> codec The most values kept in memory and the codec
+	 * used to write them to disk
+	 */
+	public ExternalPriorityQueue(int memoryLimit, RecordCodec<T> codec){
+		this(memoryLimit,codec,null,DEFAULT_MAX_RUNS,DEFAULT_BUFFER_SIZE);
+	}
+	/**
+	 * Constructor that picks every setting
+	 * @param int memoryLimit, RecordCodec<T> codec, Path directory, int maxRuns, int bufferSize The
+	 * most values kept in memory, the codec used to write them to disk, the directory for the run
+	 * files or null for a new temporary one, the most runs kept before they are merged and the
+	 * bytes of the buffer used for each run
+	 * @throws IllegalArgumentException() if a limit is too small
+	 */
+	public ExternalPriorityQueue(int memoryLimit, RecordCodec<T> codec, Path directory, int maxRuns, int bufferSize){
+		if(memoryLimit < 1)
+			throw new IllegalArgumentException("The memory limit must be at least 1");
+		if(maxRuns < 2)
+			throw new IllegalArgumentException("There must be room for at least two runs");
+		if(codec == null)
+			throw new IllegalArgumentException("The codec can not be null");
+		this.memoryLimit = memoryLimit;
+		this.heap = new MinHeap<T>(memoryLimit);
+		this.codec = codec;
+		this.maxRuns = maxRuns;
+		/* every buffer holds a whole number of records */
+		int recordSize = codec.recordSize();
+		this.bufferSize = Math.max(1,bufferSize / recordSize) * recordSize;
+		try{
+			this.ownsDirectory = directory == null;
+			this.directory = ownsDirectory ? Files.createTempDirectory("priority-queue") : Files.createDirectories(directory);
+		}catch(IOException e){
+			throw new UncheckedIOException(e);
+		}
+	}
+	/**
+	 * A method to determine if the queue is empty
+	 * @return boolean Represents if the queue is empty
+	 */
+	public boolean isEmpty(){
+		return size == 0;
+	}
+	/**
+	 * A method to return the number of values in the queue, in memory and on disk
+	 * @return long The number of values in the queue
+	 */
+	public long size(){
+		return size;
+	}
+	/**
+	 * A method to get the number of run files on disk
+	 * @return int The number of runs
+	 */
+	public int runCount(){
+		return runs.size();
+	}
+	/**
+	 * A method to enqueue a value, writing the in-memory values to a run first if they are at the
+	 * limit
+	 * @param T value The value you wish to enqueue
+	 * @throws UncheckedIOException() if a run file can not be written
+	 */
+	public void enqueue(T value){
+		if(heap.size() >= memoryLimit)
+			spill();
+		heap.insert(value);
+		size++;
+	}
+	/**
+	 * A method to look at the value dequeue would return without removing it
+	 * @return T The smallest value in the queue, or null if it is empty
+	 */
+	public T peek(){
+		T inMemory = heap.findMin();
+		Run run = runs.findMin();
+		if(run == null)
+			return inMemory;
+		if(inMemory == null || run.head.compareTo(inMemory) < 0)
+			return run.head;
+		return inMemory;
+	}
+	/**
+	 * A method to dequeue the smallest value, from memory or from the head of a run
+	 * @return T The value you removed from the queue
+	 * @throws IllegalStateException() if the queue is empty
+	 * @throws UncheckedIOException() if a run file can not be read
+	 */
+	public T dequeue(){
+		if(isEmpty())
+			throw new IllegalStateException("The PriorityQueue is empty");
+		T inMemory = heap.findMin();
+		Run run = runs.findMin();
+		T item;
+		if(run == null || (inMemory != null && inMemory.compareTo(run.head) <= 0))
+			item = heap.remove();
+		else
+			item = next(runs);
+		/* only count the value as gone once reading the run did not fail */
+		size--;
+		return item;
+	}
+	/**
+	 * A method to take the head of the smallest run of a merge and move the run to its new place
+	 * @param MinHeap<Run> merge The runs being merged, ordered by their heads
+	 * @return T The head the smallest run had
+	 */
+	private T next(MinHeap<Run> merge){
+		Run run = merge.findMin();
+		T item = run.head;
+		if(run.advance())
+			merge.replaceMin(run);
+		else{
+			merge.remove();
+			run.delete();
+		}
+		return item;
+	}
+	/**
+	 * A method to write every in-memory value to a new sorted run
+	 * @throws UncheckedIOException() if the run file can not be written
+	 */
+	private void spill(){
+		RunWriter writer = new RunWriter();
+		while(!heap.isEmpty())
+			writer.write(heap.remove());
+		runs.insert(writer.finish(0));
+		if(runs.size() > maxRuns)
+			compact();
+	}
+	/**
+	 * A method to merge the runs of the lowest level that has two of them, and the runs below it,
+	 * into one run of the next level, keeping the number of open runs bounded
+	 * @throws UncheckedIOException() if a run file can not be read or written
+	 */
+	private void compact(){
+		/* take the runs out to pick the ones to merge, there are only maxRuns + 1 of them */
+		List<Run> all = runs.removeN(runs.size());
+		all.sort(Comparator.comparingInt(run -> run.level));
+		/* the lowest level with two runs, or the level of the second run if every level has one */
+		int i = 1;
+		while(i < all.size() - 1 && all.get(i).level != all.get(i - 1).level)
+			i++;
+		if(all.get(i).level != all.get(i - 1).level)
+			i = 1;
+		int level = all.get(i).level;
+		MinHeap<Run> merge = new MinHeap<Run>();
+		for(Run run : all)
+			(run.level <= level ? merge : runs).insert(run);
+		RunWriter writer = new RunWriter();
+		while(!merge.isEmpty())
+			writer.write(next(merge));
+		runs.insert(writer.finish(level + 1));
+	}
+	/**
+	 * A method to delete every run file and the directory if the queue made it
+	 * @ensure The queue is empty
+	 */
+	public void close(){
+		while(!runs.isEmpty())
+			runs.remove().delete();
+		heap.removeN(heap.size());
+		size = 0;
+		if(ownsDirectory){
+			try{
+				Files.deleteIfExists(directory);
+			}catch(IOException e){
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+	/**
+	 * A writer of a new run file. Records are put in a buffer which is written whenever it fills.
+	 */
+	private class RunWriter{
+		private final Path file;
+		private final FileChannel channel;
+		private final ByteBuffer buffer = ByteBuffer.allocateDirect(bufferSize);
+		private long count;
+		/**
+		 * Constructor that creates the next run file
+		 */
+		RunWriter(){
+			try{
+				file = directory.resolve("run-" + nextRun++);
+				channel = FileChannel.open(file,StandardOpenOption.CREATE_NEW,StandardOpenOption.WRITE);
+			}catch(IOException e){
+				throw new UncheckedIOException(e);
+			}
+		}
+		/**
+		 * A method to add a record to the run
+		 * @param T value The next value, no smaller than the ones before it
+		 */
+		void write(T value){
+			if(buffer.remaining() < codec.recordSize())
+				flush();
+			codec.write(value,buffer);
+			count++;
+		}
+		/**
+		 * A method to write out the buffer
+		 */
+		private void flush(){
+			buffer.flip();
+			try{
+				while(buffer.hasRemaining())
+					channel.write(buffer);
+			}catch(IOException e){
+				throw new UncheckedIOException(e);
+			}
+			buffer.clear();
+		}
+		/**
+		 * A method to finish the run and open it for reading
+		 * @param int level The number of merges the run's values went through
+		 * @return Run The run, positioned at its first record
+		 */
+		Run finish(int level){
+			flush();
+			try{
+				channel.close();
+			}catch(IOException e){
+				throw new UncheckedIOException(e);
+			}
+			return new Run(file,count,level);
+		}
+	}
+	/**
+	 * A sorted run file being read from the front. Runs are ordered by their current head.
+	 */
+	private class Run implements Comparable<Run>{
+		private final Path file;
+		private final FileChannel channel;
+		private final ByteBuffer buffer = ByteBuffer.allocateDirect(bufferSize);
+		private final int level;
+		private long remaining;
+		private T head;
+		/**
+		 * Constructor that opens a run and reads its first record
+		 * @param Path file, long count, int level The run file, the number of records in it and the
+		 * number of merges they went through
+		 */
+		Run(Path file, long count, int level){
+			this.file = file;
+			this.remaining = count;
+			this.level = level;
+			try{
+				channel = FileChannel.open(file,StandardOpenOption.READ);
+			}catch(IOException e){
+				throw new UncheckedIOException(e);
+			}
+			/* start with an empty buffer so the first advance reads from the file */
+			buffer.flip();
+			advance();
+		}
+		/**
+		 * A method to move to the next record
+		 * @return boolean Represents if there was another record
+		 */
+		boolean advance(){
+			if(remaining == 0){
+				head = null;
+				return false;
+			}
+			if(buffer.remaining() < codec.recordSize()){
+				/* refill the buffer with the next block of the file, it is flipped back even when
+				 * the read fails so a later call finds it ready to read and tries the file again */
+				buffer.compact();
+				try{
+					while(buffer.position() < codec.recordSize())
+						if(channel.read(buffer) < 0)
+							throw new IOException("The run " + file + " ended early");
+				}catch(IOException e){
+					throw new UncheckedIOException(e);
+				}finally{
+					buffer.flip();
+				}
+			}
+			head = codec.read(buffer);
+			remaining--;
+			return true;
+		}
+		/**
+		 * A method to close and delete the run file
+		 */
+		void delete(){
+			try{
+				channel.close();
+				Files.deleteIfExists(file);
+			}catch(IOException e){
+				throw new UncheckedIOException(e);
+			}
+		}
+		/**
+		 * A method to order runs by their heads
+		 * @param Run other The run to compare with
+		 * @return int Represents if this run's head is smaller or larger
+		 */
+		public int compareTo(Run other){
+			return head.compareTo(other.head);
+		}
+	}
+}
@@ -0,0 +1,192 @@
+import java.lang.Comparable;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+/**
+ * A thread-safe MinHeap that always removes the exact minimum, built with flat combining. Rather
+ * than every thread taking a lock around the heap in turn, each thread posts its operation in a
+ * slot of its own and one thread at a time, the combiner, applies every posted operation in a
+ * single pass. The heap's array and size then stay in the combiner's cache instead of bouncing
+ * between every thread's.
+ *
+ * The combiner sorts the values being inserted in the pass and hands them straight to the removes
+ * of the same pass whenever they are smaller than the minimum of the heap, so those never touch
+ * the heap at all. The rest are added with one insertAll, which rebuilds the heap when there are
+ * enough of them.
+ *
+ * Each thread's slot stays registered for the life of the heap, so it suits a fixed pool of
+ * threads rather than one short lived thread per operation.
+ */
+public class FlatCombiningMinHeap<T extends Comparable<? super T>>{
+	/**
+	 * The members of this class are the heap, the lock held by the combiner, the list of every
+	 * thread's slot, each thread's own slot and the published size. The combiner also keeps the
+	 * values being inserted in the current pass.
+	 */
+	private static final int IDLE = 0;
+	private static final int INSERT = 1;
+	private static final int REMOVE = 2;
+	/* how many times a waiting thread spins before it gives up the processor */
+	private static final int SPINS = 64;
+	private final MinHeap<T> heap;
+	private final ReentrantLock combiner = new ReentrantLock();
+	private final AtomicReference<Slot<T>> slots = new AtomicReference<Slot<T>>();
+	private final ThreadLocal<Slot<T>> mySlot = ThreadLocal.withInitial(this::register);
+	private volatile int size;
+	private T[] inserts;
+	private int insertCount;
+	/**
+	 * Default constructor, backed by a binary MinHeap
+	 */
+	public FlatCombiningMinHeap(){
+		this(new MinHeap<T>());
+	}
+	/**
+	 * Constructor that wraps a MinHeap, which must not be used directly afterwards
+	 * @param MinHeap<T> heap The heap to share between threads
+	 * @throws IllegalArgumentException() if the heap is null
+	 */
+	@SuppressWarnings({"unchecked","rawtypes"})
+	public FlatCombiningMinHeap(MinHeap<T> heap){
+		if(heap == null)
+			throw new IllegalArgumentException("The heap can not be null");
+		this.heap = heap;
+		this.size = heap.size();
+		this.inserts = (T[]) new Comparable[16];
+	}
+	/**
+	 * A method to insert a value into the heap
+	 * @param T value The value you wish to insert
+	 */
+	public void insert(T value){
+		Slot<T> slot = mySlot.get();
+		slot.value = value;
+		slot.op = INSERT;
+		await(slot);
+	}
+	/**
+	 * A method to remove the minimum value of the heap
+	 * @return T The value you removed from the heap
+	 * @throws IllegalStateException() if the heap is empty
+	 */
+	public T remove(){
+		Slot<T> slot = mySlot.get();
+		slot.op = REMOVE;
+		await(slot);
+		T item = slot.value;
+		slot.value = null;
+		if(item == null)
+			throw new IllegalStateException("The heap is empty");
+		return item;
+	}
+	/**
+	 * A method to determine if the heap is empty. Other threads may change the answer as soon as
+	 * it is returned.
+	 * @return boolean Represents if the heap is empty
+	 */
+	public boolean isEmpty(){
+		return size == 0;
+	}
+	/**
+	 * A method to count the values in the heap. Other threads may change the answer as soon as it
+	 * is returned.
+	 * @return int The number of values in the heap
+	 */
+	public int size(){
+		return size;
+	}
+	/**
+	 * A method to wait until a posted operation is done, becoming the combiner whenever no other
+	 * thread is
+	 * @param Slot<T> slot The calling thread's slot
+	 */
+	private void await(Slot<T> slot){
+		for(int spins = 0;slot.op != IDLE;spins++){
+			if(combiner.tryLock()){
+				try{
+					combine();
+				}finally{
+					combiner.unlock();
+				}
+			}else if(spins < SPINS)
+				Thread.onSpinWait();
+			else
+				Thread.yield();
+		}
+	}
+	/**
+	 * A method to apply every posted operation in one pass, the combiner lock must be held
+	 */
+	private void combine(){
+		/* first take a snapshot of every posted op, a thread may post one while we work, and
+		 * collect the inserts, sorted so the smallest can go straight to the removes */
+		insertCount = 0;
+		for(Slot<T> slot = slots.get();slot != null;slot = slot.next)
+			if((slot.taken = slot.op) == INSERT)
+				addInsert(slot.value);
+		if(insertCount > 1)
+			Arrays.sort(inserts,0,insertCount);
+		/* each remove takes the smaller of the heap's minimum and the smallest pending insert */
+		int taken = 0;
+		for(Slot<T> slot = slots.get();slot != null;slot = slot.next){
+			if(slot.taken != REMOVE)
+				continue;
+			T min = heap.findMin();
+			if(taken < insertCount && (min == null || inserts[taken].compareTo(min) <= 0))
+				slot.value = inserts[taken++];
+			else
+				slot.value = min == null ? null : heap.remove();
+		}
+		/* whatever the removes did not take goes into the heap at once */
+		if(taken < insertCount){
+			if(insertCount - taken == 1)
+				heap.insert(inserts[taken]);
+			else
+				heap.insertAll(Arrays.copyOfRange(inserts,taken,insertCount));
+		}
+		Arrays.fill(inserts,0,insertCount,null);
+		size = heap.size();
+		/* only now release the waiting threads, the volatile write publishes their results */
+		for(Slot<T> slot = slots.get();slot != null;slot = slot.next){
+			if(slot.taken == IDLE)
+				continue;
+			if(slot.taken == INSERT)
+				slot.value = null;
+			slot.taken = IDLE;
+			slot.op = IDLE;
+		}
+	}
+	/**
+	 * A method to add a value to the combiner's inserts, growing the array if it is full
+	 * @param T value The value being inserted
+	 */
+	private void addInsert(T value){
+		if(insertCount == inserts.length)
+			inserts = Arrays.copyOf(inserts,insertCount * 2);
+		inserts[insertCount++] = value;
+	}
+	/**
+	 * A method to make a slot for a thread that has not used the heap before and add it to the
+	 * list of slots
+	 * @return Slot<T> The new slot
+	 */
+	private Slot<T> register(){
+		Slot<T> slot = new Slot<T>();
+		do{
+			slot.next = slots.get();
+		}while(!slots.compareAndSet(slot.next,slot));
+		return slot;
+	}
+	/**
+	 * A thread's slot. The thread writes the value and then the op, the combiner writes the result
+	 * into the value and then sets the op back to IDLE, so the volatile op orders both handoffs.
+	 * The op the combiner took in its current pass is kept apart so a newly posted op waits for
+	 * the next pass.
+	 */
+	private static class Slot<T>{
+		private volatile int op;
+		private int taken;
+		private T value;
+		private Slot<T> next;
+	}
+}
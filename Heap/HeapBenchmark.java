@@ -0,0 +1,623 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+/**
+ * A small benchmark harness for the heaps in this directory. It is not a test, it is run by hand:
+ *
+ *     java HeapBenchmark [section] [n]
+ *
+ * Every section times a workload a few times to warm the JIT up and then prints the throughput of
+ * the last round along with the garbage it produced.
+ */
+public class HeapBenchmark{
+	/**
+	 * The number of rounds each workload is run, only the last one is reported
+	 */
+	private static final int ROUNDS = 5;
+	/**
+	 * A workload of the benchmark. Returns a value so the JIT cannot throw the work away.
+	 */
+	interface Workload{
+		long run();
+	}
+	/**
+	 * Runs the requested section of the benchmark, or every section if none is given
+	 * @param String[] args The section name and the number of elements to use
+	 */
+	public static void main(String[] args){
+		String section = args.length > 0 ? args[0] : "all";
+		int n = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+		if(section.equals("all") || section.equals("primitive"))
+			primitive(n);
+		if(section.equals("all") || section.equals("arity"))
+			arity(n);
+		if(section.equals("all") || section.equals("concurrent"))
+			concurrent(n);
+		if(section.equals("all") || section.equals("batch"))
+			batch(n);
+		if(section.equals("all") || section.equals("cachedkey"))
+			cachedKey(n);
+		if(section.equals("all") || section.equals("radix"))
+			radix(n);
+		if(section.equals("all") || section.equals("heapify"))
+			heapify(n);
+		if(section.equals("all") || section.equals("merge"))
+			merge(n);
+		if(section.equals("all") || section.equals("blocking"))
+			blocking(n);
+		if(section.equals("all") || section.equals("sorted"))
+			sorted(n);
+		if(section.equals("all") || section.equals("snapshot"))
+			snapshot(n);
+		if(section.equals("all") || section.equals("offheap"))
+			offHeap(n);
+	}
+	/**
+	 * Compares the boxed MinHeap against the int and long specialized heaps on the same random
+	 * insert then remove workload
+	 * @param int n The number of values pushed through each heap per round
+	 */
+	static void primitive(int n){
+		final int[] ints = randomInts(n);
+		final long[] longs = new long[n];
+		for(int i = 0;i < n;i++)
+			longs[i] = ints[i];
+		measure("MinHeap<Integer>",n,() -> {
+			MinHeap<Integer> heap = new MinHeap<Integer>(n);
+			for(int value : ints)
+				heap.insert(value);
+			long sum = 0;
+			while(!heap.isEmpty())
+				sum += heap.remove();
+			return sum;
+		});
+		measure("IntMinHeap",n,() -> {
+			IntMinHeap heap = new IntMinHeap(n);
+			for(int value : ints)
+				heap.insert(value);
+			long sum = 0;
+			while(!heap.isEmpty())
+				sum += heap.remove();
+			return sum;
+		});
+		measure("MinHeap<Long>",n,() -> {
+			MinHeap<Long> heap = new MinHeap<Long>(n);
+			for(long value : longs)
+				heap.insert(value);
+			long sum = 0;
+			while(!heap.isEmpty())
+				sum += heap.remove();
+			return sum;
+		});
+		measure("LongMinHeap",n,() -> {
+			LongMinHeap heap = new LongMinHeap(n);
+			for(long value : longs)
+				heap.insert(value);
+			long sum = 0;
+			while(!heap.isEmpty())
+				sum += heap.remove();
+			return sum;
+		});
+	}
+	/**
+	 * Compares MinHeap arities on a workload that keeps the heap full and churns it with
+	 * remove/insert pairs, which is where the shallower tree pays off
+	 * @param int n The number of values held in each heap
+	 */
+	static void arity(int n){
+		final int[] ints = randomInts(n);
+		final Integer[] boxed = new Integer[n];
+		for(int i = 0;i < n;i++)
+			boxed[i] = ints[i];
+		for(int d = 2;d <= 8;d *= 2){
+			final int arity = d;
+			measure("MinHeap arity " + arity,n,() -> {
+				MinHeap<Integer> heap = new MinHeap<Integer>(boxed,arity);
+				long sum = 0;
+				for(int i = 0;i < n;i++){
+					Integer min = heap.remove();
+					sum += min;
+					heap.insert(boxed[(int) ((sum & Integer.MAX_VALUE) % n)]);
+				}
+				return sum;
+			});
+		}
+	}
+	/**
+	 * Compares a MinHeap behind one lock with the relaxed and strict ConcurrentUnboundedPriorityQueue
+	 * as the number of threads doubles from 1 to 64. Every thread does enqueue/dequeue pairs on a
+	 * queue that starts with n values in it.
+	 * @param int n The number of values the queue starts with and the pairs done by all threads
+	 */
+	static void concurrent(int n){
+		for(int threads = 1;threads <= 64;threads *= 2){
+			final MinHeap<Integer> locked = new MinHeap<Integer>(n);
+			final ConcurrentUnboundedPriorityQueue<Integer> relaxed = new ConcurrentUnboundedPriorityQueue<Integer>(false);
+			final ConcurrentUnboundedPriorityQueue<Integer> strict = new ConcurrentUnboundedPriorityQueue<Integer>(true);
+			final FlatCombiningMinHeap<Integer> combining = new FlatCombiningMinHeap<Integer>();
+			for(int value : randomInts(n)){
+				locked.insert(value);
+				relaxed.enqueue(value);
+				strict.enqueue(value);
+				combining.insert(value);
+			}
+			measureThreads("locked MinHeap",threads,n,() -> {
+				int value = ThreadLocalRandom.current().nextInt();
+				synchronized(locked){
+					locked.insert(value);
+					return locked.remove();
+				}
+			});
+			measureThreads("relaxed concurrent queue",threads,n,() -> {
+				relaxed.enqueue(ThreadLocalRandom.current().nextInt());
+				return relaxed.dequeue();
+			});
+			measureThreads("strict concurrent queue",threads,n,() -> {
+				strict.enqueue(ThreadLocalRandom.current().nextInt());
+				return strict.dequeue();
+			});
+			measureThreads("flat combining MinHeap",threads,n,() -> {
+				combining.insert(ThreadLocalRandom.current().nextInt());
+				return combining.remove();
+			});
+		}
+	}
+	/**
+	 * A method to time an operation run by several threads at once and print the throughput
+	 * @param String name The label to print, int threads The number of threads, int ops The total
+	 * operations split over the threads, Workload work One operation
+	 */
+	static void measureThreads(String name, int threads, int ops, Workload work){
+		final int perThread = Math.max(1,ops / threads);
+		final CountDownLatch start = new CountDownLatch(1);
+		final CountDownLatch done = new CountDownLatch(threads);
+		final long[] sink = new long[threads];
+		for(int t = 0;t < threads;t++){
+			final int id = t;
+			new Thread(() -> {
+				try{
+					start.await();
+					long sum = 0;
+					for(int i = 0;i < perThread;i++)
+						sum += work.run();
+					sink[id] = sum;
+				}catch(InterruptedException e){
+					Thread.currentThread().interrupt();
+				}finally{
+					done.countDown();
+				}
+			}).start();
+		}
+		long begin = System.nanoTime();
+		start.countDown();
+		try{
+			done.await();
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+		}
+		long elapsed = System.nanoTime() - begin;
+		System.out.printf("%-28s %3d threads %12.0f ops/s%n",name,threads,(double) perThread * threads / (elapsed / 1e9));
+	}
+	/**
+	 * Compares bursts pushed through MinHeap one insert/remove at a time with the same bursts
+	 * pushed through insertAll and drainTo
+	 * @param int n The number of values in each burst
+	 */
+	static void batch(int n){
+		final int[] ints = randomInts(n);
+		final Integer[] boxed = new Integer[n];
+		for(int i = 0;i < n;i++)
+			boxed[i] = ints[i];
+		final List<Integer> sink = new ArrayList<Integer>(n);
+		measure("one at a time",n,() -> {
+			MinHeap<Integer> heap = new MinHeap<Integer>();
+			for(Integer value : boxed)
+				heap.insert(value);
+			long sum = 0;
+			while(!heap.isEmpty())
+				sum += heap.remove();
+			return sum;
+		});
+		measure("insertAll/drainTo",n,() -> {
+			MinHeap<Integer> heap = new MinHeap<Integer>();
+			heap.insertAll(boxed);
+			sink.clear();
+			heap.drainTo(sink,n);
+			return sink.get(n - 1);
+		});
+	}
+	/**
+	 * An item whose compareTo looks at several fields, like the scheduler's tasks
+	 */
+	static class Task implements Comparable<Task>{
+		final long deadline;
+		final int priority;
+		final String name;
+		Task(long deadline, int priority, String name){
+			this.deadline = deadline;
+			this.priority = priority;
+			this.name = name;
+		}
+		public int compareTo(Task other){
+			int comparison = Long.compare(deadline,other.deadline);
+			if(comparison == 0)
+				comparison = Integer.compare(priority,other.priority);
+			if(comparison == 0)
+				comparison = name.compareTo(other.name);
+			return comparison;
+		}
+	}
+	/**
+	 * Compares a MinHeap of Tasks against a CachedKeyMinHeap keyed on the deadline with the rest
+	 * of compareTo as the tie breaker
+	 * @param int n The number of tasks pushed through each heap
+	 */
+	static void cachedKey(int n){
+		final int[] ints = randomInts(n);
+		final Task[] tasks = new Task[n];
+		for(int i = 0;i < n;i++)
+			tasks[i] = new Task(ints[i] & 0xffffff,ints[i] >>> 28,"task" + i);
+		final Comparator<Task> tieBreak = Comparator.naturalOrder();
+		measure("MinHeap<Task>",n,() -> {
+			MinHeap<Task> heap = new MinHeap<Task>(n);
+			for(Task task : tasks)
+				heap.insert(task);
+			long sum = 0;
+			while(!heap.isEmpty())
+				sum += heap.remove().deadline;
+			return sum;
+		});
+		measure("CachedKeyMinHeap<Task>",n,() -> {
+			CachedKeyMinHeap<Task> heap = new CachedKeyMinHeap<Task>(n,t -> t.deadline,tieBreak);
+			for(Task task : tasks)
+				heap.insert(task);
+			long sum = 0;
+			while(!heap.isEmpty())
+				sum += heap.remove().deadline;
+			return sum;
+		});
+	}
+	/**
+	 * Compares MinHeap and RadixHeap on a monotone trace, an event simulation that keeps 10000
+	 * events pending and replaces each event it removes with one at a random later time
+	 * @param int n The number of events processed
+	 */
+	static void radix(int n){
+		final int pending = 10000;
+		final int[] delays = randomInts(n + pending);
+		for(int i = 0;i < delays.length;i++)
+			delays[i] &= 0xfffff;
+		measure("MinHeap<Long> monotone",n,() -> {
+			MinHeap<Long> heap = new MinHeap<Long>(pending);
+			for(int i = 0;i < pending;i++)
+				heap.insert((long) delays[i]);
+			long now = 0;
+			for(int i = pending;i < n + pending;i++){
+				now = heap.remove();
+				heap.insert(now + delays[i]);
+			}
+			return now;
+		});
+		measure("RadixHeap<Long> monotone",n,() -> {
+			RadixHeap<Long> heap = new RadixHeap<Long>(v -> v);
+			for(int i = 0;i < pending;i++)
+				heap.insert((long) delays[i]);
+			long now = 0;
+			for(int i = pending;i < n + pending;i++){
+				now = heap.remove();
+				heap.insert(now + delays[i]);
+			}
+			return now;
+		});
+	}
+	/**
+	 * Times building a MinHeap from an array, copying it and adopting it. The build runs on the
+	 * common ForkJoinPool, run it again with -Djava.util.concurrent.ForkJoinPool.common.parallelism=1
+	 * to see the single threaded time.
+	 * @param int n The number of elements in the array
+	 */
+	static void heapify(int n){
+		final int[] ints = randomInts(n);
+		final Integer[] boxed = new Integer[n];
+		for(int i = 0;i < n;i++)
+			boxed[i] = ints[i];
+		measure("new MinHeap(T[])",n,() -> new MinHeap<Integer>(boxed).findMin());
+		final Integer[] spare = new Integer[n + 1];
+		measure("MinHeap.adopt",n,() -> {
+			/* put the values back in their random order, this copy is the only one made */
+			System.arraycopy(boxed,0,spare,1,n);
+			return MinHeap.adopt(spare,n).findMin();
+		});
+	}
+	/**
+	 * A sorted run being merged through a MinHeap, ordered by its current head
+	 */
+	static class Cursor implements Comparable<Cursor>{
+		final Iterator<Long> input;
+		Long head;
+		Cursor(Iterator<Long> input){
+			this.input = input;
+			this.head = input.next();
+		}
+		public int compareTo(Cursor other){
+			return head.compareTo(other.head);
+		}
+	}
+	/**
+	 * Compares merging 1000 sorted runs with a MinHeap of run heads against the LoserTree and the
+	 * LongLoserTree
+	 * @param int n The total number of values in the runs
+	 */
+	static void merge(int n){
+		final int k = 1000;
+		final Long[][] runs = new Long[k][];
+		final long[][] primitiveRuns = new long[k][];
+		int[] ints = randomInts(n);
+		for(int r = 0;r < k;r++){
+			long[] run = new long[n / k];
+			for(int i = 0;i < run.length;i++)
+				run[i] = ints[r * run.length + i];
+			Arrays.sort(run);
+			primitiveRuns[r] = run;
+			runs[r] = Arrays.stream(run).boxed().toArray(Long[]::new);
+		}
+		final int total = n / k * k;
+		measure("MinHeap merge",total,() -> {
+			MinHeap<Cursor> heap = new MinHeap<Cursor>(k);
+			for(Long[] run : runs)
+				heap.insert(new Cursor(Arrays.asList(run).iterator()));
+			long sum = 0;
+			while(!heap.isEmpty()){
+				Cursor cursor = heap.findMin();
+				sum += cursor.head;
+				if(cursor.input.hasNext()){
+					cursor.head = cursor.input.next();
+					heap.replaceMin(cursor);
+				}else
+					heap.remove();
+			}
+			return sum;
+		});
+		measure("LoserTree merge",total,() -> {
+			List<Iterator<Long>> inputs = new ArrayList<Iterator<Long>>(k);
+			for(Long[] run : runs)
+				inputs.add(Arrays.asList(run).iterator());
+			long[] sum = new long[1];
+			new LoserTree<Long>(inputs).drainTo(v -> sum[0] += v);
+			return sum[0];
+		});
+		measure("LongLoserTree merge",total,() -> {
+			List<PrimitiveIterator.OfLong> inputs = new ArrayList<PrimitiveIterator.OfLong>(k);
+			for(long[] run : primitiveRuns)
+				inputs.add(Arrays.stream(run).iterator());
+			long[] sum = new long[1];
+			new LongLoserTree(inputs).drainTo(v -> sum[0] += v);
+			return sum[0];
+		});
+	}
+	/**
+	 * Compares emptying a BlockingUnboundedPriorityQueue one take at a time against takeBatch
+	 * @param int n The number of values in the queue
+	 */
+	static void blocking(int n){
+		final int[] values = randomInts(n);
+		measure("take",n,() -> {
+			BlockingUnboundedPriorityQueue<Integer> queue = new BlockingUnboundedPriorityQueue<Integer>();
+			for(int value : values)
+				queue.offer(value);
+			long sum = 0;
+			try{
+				for(int i = 0;i < n;i++)
+					sum += queue.take();
+			}catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+			}
+			return sum;
+		});
+		measure("takeBatch(64)",n,() -> {
+			BlockingUnboundedPriorityQueue<Integer> queue = new BlockingUnboundedPriorityQueue<Integer>();
+			for(int value : values)
+				queue.offer(value);
+			long sum = 0;
+			try{
+				for(int taken = 0;taken < n;){
+					List<Integer> batch = queue.takeBatch(64);
+					for(int value : batch)
+						sum += value;
+					taken += batch.size();
+				}
+			}catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+			}
+			return sum;
+		});
+	}
+	/**
+	 * Compares taking the 500 smallest values of a built heap in order with the sorted iterator,
+	 * which leaves the heap alone, against copying the heap and removing them
+	 * @param int n The number of values in the heap
+	 */
+	static void sorted(int n){
+		final int m = 500;
+		Integer[] values = new Integer[n];
+		int[] ints = randomInts(n);
+		for(int i = 0;i < n;i++)
+			values[i] = ints[i];
+		final MinHeap<Integer> heap = new MinHeap<Integer>(values);
+		final Integer[] copy = new Integer[n];
+		measure("copy and removeN",m,() -> {
+			MinHeap<Integer> scratch = new MinHeap<Integer>(values);
+			long sum = 0;
+			for(int value : scratch.removeN(m))
+				sum += value;
+			return sum;
+		});
+		measure("sortedIterator",m,() -> {
+			Iterator<Integer> sorted = heap.sortedIterator();
+			long sum = 0;
+			for(int i = 0;i < m;i++)
+				sum += sorted.next();
+			return sum;
+		});
+		measure("partialSort",m,() -> {
+			System.arraycopy(values,0,copy,0,n);
+			MinHeap.partialSort(copy,m);
+			return copy[m - 1];
+		});
+	}
+	/**
+	 * Compares rebuilding a LongMinHeap from its values against restoring it from a snapshot
+	 * @param int n The number of values in the heap
+	 */
+	static void snapshot(int n){
+		final long[] values = new long[n];
+		int[] ints = randomInts(n);
+		for(int i = 0;i < n;i++)
+			values[i] = ints[i];
+		final Path file;
+		try{
+			file = Files.createTempFile("heap",".snapshot");
+		}catch(IOException e){
+			throw new UncheckedIOException(e);
+		}
+		new LongMinHeap(values).writeSnapshot(file);
+		measure("rebuild LongMinHeap",n,() -> new LongMinHeap(values).findMin());
+		measure("restore LongMinHeap snapshot",n,() -> LongMinHeap.readSnapshot(file).findMin());
+		try{
+			Files.delete(file);
+		}catch(IOException e){
+			throw new UncheckedIOException(e);
+		}
+	}
+	/**
+	 * A key with a 16 byte payload as an object, the way it has to be stored in a MinHeap
+	 */
+	static class Entry implements Comparable<Entry>{
+		final long key;
+		final long first;
+		final long second;
+		Entry(long key, long first, long second){
+			this.key = key;
+			this.first = first;
+			this.second = second;
+		}
+		public int compareTo(Entry other){
+			return Long.compare(key,other.key);
+		}
+	}
+	/**
+	 * Compares a MinHeap of objects holding a key and a 16 byte payload against an OffHeapMinHeap
+	 * of the same 24 byte records
+	 * @param int n The number of records to insert and then remove
+	 */
+	static void offHeap(int n){
+		final int[] keys = randomInts(n);
+		measure("MinHeap of entries",2 * n,() -> {
+			MinHeap<Entry> heap = new MinHeap<Entry>();
+			for(int key : keys)
+				heap.insert(new Entry(key,key,~key));
+			long sum = 0;
+			while(!heap.isEmpty())
+				sum += heap.remove().second;
+			return sum;
+		});
+		measure("OffHeapMinHeap",2 * n,() -> {
+			OffHeapMinHeap heap = new OffHeapMinHeap(24,0);
+			ByteBuffer record = ByteBuffer.allocate(24);
+			for(int key : keys){
+				record.clear();
+				record.putLong(key).putLong(key).putLong(~key).flip();
+				heap.insert(record);
+			}
+			long sum = 0;
+			while(!heap.isEmpty()){
+				record.clear();
+				heap.remove(record);
+				sum += record.getLong(16);
+			}
+			return sum;
+		});
+	}
+	/**
+	 * A method to make a reproducible array of random ints
+	 * @param int n The length of the array
+	 * @return int[] The random values
+	 */
+	static int[] randomInts(int n){
+		Random random = new Random(42);
+		int[] values = new int[n];
+		for(int i = 0;i < n;i++)
+			values[i] = random.nextInt();
+		return values;
+	}
+	/**
+	 * A method to time a workload and print its throughput, allocation and collections
+	 * @param String name The label to print, int ops The operations done by one run, Workload work
+	 * the workload itself
+	 */
+	static void measure(String name, int ops, Workload work){
+		long sink = 0;
+		long elapsed = 0;
+		long allocated = 0;
+		long collections = 0;
+		long gcTime = 0;
+		for(int round = 0;round < ROUNDS;round++){
+			/* start every round from a clean heap so earlier rounds are not charged to it */
+			System.gc();
+			long bytes = allocatedBytes();
+			long count = gcCount();
+			long time = gcTime();
+			long start = System.nanoTime();
+			sink += work.run();
+			elapsed = System.nanoTime() - start;
+			allocated = allocatedBytes() - bytes;
+			collections = gcCount() - count;
+			gcTime = gcTime() - time;
+		}
+		System.out.printf("%-28s %10.0f ops/s %12d bytes %4d gcs %6d ms gc  (%d)%n",
+			name,ops / (elapsed / 1e9),allocated,collections,gcTime,sink & 1);
+	}
+	/**
+	 * A method to get the bytes allocated by this thread so far, or 0 if the JVM cannot tell
+	 * @return long The bytes allocated by the current thread
+	 */
+	private static long allocatedBytes(){
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if(bean instanceof com.sun.management.ThreadMXBean)
+			return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+		return 0;
+	}
+	/**
+	 * A method to total the collections done by every garbage collector
+	 * @return long The number of collections so far
+	 */
+	private static long gcCount(){
+		long count = 0;
+		for(GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans())
+			count += Math.max(0,bean.getCollectionCount());
+		return count;
+	}
+	/**
+	 * A method to total the time spent by every garbage collector
+	 * @return long The milliseconds spent collecting so far
+	 */
+	private static long gcTime(){
+		long time = 0;
+		for(GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans())
+			time += Math.max(0,bean.getCollectionTime());
+		return time;
+	}
+}
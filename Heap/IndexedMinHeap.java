@@ -0,0 +1,270 @@
+import java.lang.Comparable;
+import java.util.Arrays;
+/**
+ * An implementation of an indexed MinHeap. Every value inserted gets an int handle back, and the
+ * handle can later be used to change the value's priority or to remove it in O(log n) without
+ * searching the heap. It uses the same 1-based hole percolation as MinHeap, but the heap array
+ * holds handles and a second array remembers where each handle currently sits.
+ *
+ * A handle stays valid until its value is removed, after which insert may hand it out again.
+ */
+public class IndexedMinHeap<T extends Comparable<? super T>>{
+	/**
+	 * The members of the IndexedMinHeap class are the heap of handles, the value of each handle,
+	 * the position of each handle in the heap and a stack of handles that can be reused. Handle 0
+	 * is never handed out, insert and decreaseKey use it as the sentinel at heap[0].
+	 */
+	private static final int DEFAULT_SIZE = 13;
+	private int size;
+	private int[] heap;
+	private T[] values;
+	private int[] position;
+	private int[] free;
+	private int freeCount;
+	private int nextHandle = 1;
+	/**
+	 * Default constructor for IndexedMinHeap
+	 */
+	public IndexedMinHeap(){
+		this(DEFAULT_SIZE);
+	}
+	/**
+	 * Constuctor that intializes the size of the heap to the value specified
+	 * @param int i the size of the heap
+	 */
+	@SuppressWarnings({"unchecked","rawtypes"})
+	public IndexedMinHeap(int i){
+		this.size = 0;
+		heap = new int[i+1];
+		values = (T[]) new Comparable[i+1];
+		position = new int[i+1];
+		free = new int[i+1];
+	}
+	/**
+	 * A method to determine if the heap is empty
+	 * @return boolean Represents if the heap is empty
+	 */
+	public boolean isEmpty(){
+		return size == 0;
+	}
+	/**
+	 * A method to return the number of values in the heap
+	 * @return int The number of values in the heap
+	 */
+	public int size(){
+		return size;
+	}
+	/**
+	 * A method to determine if a handle refers to a value in the heap
+	 * @param int handle The handle returned by insert
+	 * @return boolean Represents if the handle is in the heap
+	 */
+	public boolean contains(int handle){
+		return handle > 0 && handle < nextHandle && position[handle] != 0;
+	}
+	/**
+	 * A method to get the value of a handle
+	 * @param int handle The handle returned by insert
+	 * @return T The value of the handle
+	 * @throws IllegalArgumentException() if the handle is not in the heap
+	 */
+	public T get(int handle){
+		checkHandle(handle);
+		return values[handle];
+	}
+	/**
+	 * A method to find the minimum value of the heap without removing it
+	 * @return T The minimum value of the heap, or null if it is empty
+	 */
+	public T findMin(){
+		if(isEmpty())
+			return null;
+		return values[heap[1]];
+	}
+	/**
+	 * A method to find the handle of the minimum value of the heap
+	 * @return int The handle of the minimum value
+	 * @throws IllegalStateException() If the heap is empty
+	 */
+	public int findMinHandle(){
+		if(isEmpty())
+			throw new IllegalStateException();
+		return heap[1];
+	}
+	/**
+	 * A method to return the heap as a string
+	 * @return string The heap as a printable string
+	 */
+	public String toString(){
+		StringBuilder string = new StringBuilder();
+		for(int i = 1;i <= this.size;i++)
+			string.append(" " + values[heap[i]]);
+		return string.toString().trim();
+	}
+	/**
+	 * A method to enlarge the arrays if they are not big enough for a new value
+	 * @ensure There is room for one more value and one more handle
+	 */
+	private void ensureCapacity(){
+		if(size == heap.length - 1)
+			heap = Arrays.copyOf(heap,heap.length * 2 + 1);
+		if(nextHandle == values.length){
+			values = Arrays.copyOf(values,values.length * 2 + 1);
+			position = Arrays.copyOf(position,values.length);
+			free = Arrays.copyOf(free,values.length);
+		}
+	}
+	/**
+	 * A method to insert a value into the heap
+	 * @param T value The value you wish to insert
+	 * @return int The handle of the value
+	 * @ensure The heap is now larger by one item
+	 */
+	public int insert(T value){
+		ensureCapacity();
+		/* reuse a handle from a removed value if there is one */
+		int handle = freeCount > 0 ? free[--freeCount] : nextHandle++;
+		values[handle] = value;
+		moveValueUp(++size,handle);
+		return handle;
+	}
+	/**
+	 * A method to delete the minimum value from the heap
+	 * @return T value The item you just removed
+	 * @ensure The heap is now one less in size
+	 * @throws IllegalStateException() If the heap is empty
+	 */
+	public T remove(){
+		if(isEmpty())
+			throw new IllegalStateException();
+		return removeAt(1);
+	}
+	/**
+	 * A method to delete the value of a handle from the heap
+	 * @param int handle The handle returned by insert
+	 * @return T The value you just removed
+	 * @throws IllegalArgumentException() if the handle is not in the heap
+	 */
+	public T remove(int handle){
+		checkHandle(handle);
+		return removeAt(position[handle]);
+	}
+	/**
+	 * A method to lower the priority value of a handle, moving it toward the root
+	 * @param int handle, T value The handle returned by insert and its new value
+	 * @throws IllegalArgumentException() if the handle is not in the heap or the value is greater
+	 * than the current one
+	 */
+	public void decreaseKey(int handle, T value){
+		checkHandle(handle);
+		if(value.compareTo(values[handle]) > 0)
+			throw new IllegalArgumentException("The new value is greater than the current one");
+		values[handle] = value;
+		moveValueUp(position[handle],handle);
+	}
+	/**
+	 * A method to raise the priority value of a handle, moving it toward the leaves
+	 * @param int handle, T value The handle returned by insert and its new value
+	 * @throws IllegalArgumentException() if the handle is not in the heap or the value is less
+	 * than the current one
+	 */
+	public void increaseKey(int handle, T value){
+		checkHandle(handle);
+		if(value.compareTo(values[handle]) < 0)
+			throw new IllegalArgumentException("The new value is less than the current one");
+		values[handle] = value;
+		moveValueDown(position[handle],handle);
+	}
+	/**
+	 * A method to change the value of a handle in either direction
+	 * @param int handle, T value The handle returned by insert and its new value
+	 * @throws IllegalArgumentException() if the handle is not in the heap
+	 */
+	public void update(int handle, T value){
+		checkHandle(handle);
+		int comparison = value.compareTo(values[handle]);
+		values[handle] = value;
+		if(comparison < 0)
+			moveValueUp(position[handle],handle);
+		else if(comparison > 0)
+			moveValueDown(position[handle],handle);
+	}
+	/**
+	 * A method to make sure a handle is in the heap
+	 * @param int handle The handle to check
+	 * @throws IllegalArgumentException() if the handle is not in the heap
+	 */
+	private void checkHandle(int handle){
+		if(!contains(handle))
+			throw new IllegalArgumentException("The handle " + handle + " is not in the heap");
+	}
+	/**
+	 * A method to remove the value at a position of the heap and free its handle
+	 * @param int index The position in the heap to remove
+	 * @return T The value that was removed
+	 */
+	private T removeAt(int index){
+		int handle = heap[index];
+		T item = values[handle];
+		/* take the last handle out of the heap and drop it into the hole */
+		int last = heap[size--];
+		if(index <= size){
+			/* the last value may belong above or below the hole so try both directions, only one
+			 * of them will move it */
+			moveValueUp(index,last);
+			if(heap[index] == last)
+				moveValueDown(index,last);
+		}
+		/* forget the handle so it can be reused */
+		position[handle] = 0;
+		values[handle] = null;
+		free[freeCount++] = handle;
+		return item;
+	}
+	/**
+	 * A method to move a handle from a hole up toward the root until it is in MinHeap order
+	 * @param int hole, int handle The position to start from and the handle to place
+	 * @ensure The handle is at its proper position and every handle moved knows its new position
+	 */
+	private void moveValueUp(int hole, int handle){
+		T value = values[handle];
+		/* handle 0 sits at heap[0] with the value so the loop always stops at the root */
+		values[0] = value;
+		for(heap[0] = 0;value.compareTo(values[heap[hole / 2]]) < 0;hole /= 2){
+			/* the parent moves down into the hole */
+			heap[hole] = heap[hole / 2];
+			position[heap[hole]] = hole;
+		}
+		values[0] = null;
+		heap[hole] = handle;
+		position[handle] = hole;
+	}
+	/**
+	 * A method to move a handle from a hole down toward the leaves until it is in MinHeap order
+	 * @param int index, int handle The position to start from and the handle to place
+	 * @ensure The handle is at its proper position and every handle moved knows its new position
+	 */
+	private void moveValueDown(int index, int handle){
+		/* marker for the child of the hole */
+		int child;
+		T item = values[handle];
+		for(;index * 2 <= size;index = child){
+			/* go to the next level */
+			child = index * 2;
+			/* if the child is not the last element and its sibling is less than it, increase child
+			 * index */
+			if(child != size && values[heap[child + 1]].compareTo(values[heap[child]]) < 0)
+				child++;
+			/* the child is less than the item so it moves up and the hole moves down */
+			if(values[heap[child]].compareTo(item) < 0){
+				heap[index] = heap[child];
+				position[heap[index]] = index;
+			}
+			else
+				break;
+		}
+		/* the hole is now at where the handle should go */
+		heap[index] = handle;
+		position[handle] = index;
+	}
+}
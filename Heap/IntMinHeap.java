@@ -0,0 +1,156 @@
+import java.util.Arrays;
+/**
+ * An implementation of the MinHeap data structure specialized for int values. It works on a raw
+ * int[] so none of the values are ever boxed and inserting or removing never allocates unless the
+ * array has to grow.
+ */
+public class IntMinHeap{
+	/**
+	 * The members of the IntMinHeap class will be a size of the array it is using and the
+	 * array itself which holds the raw ints
+	 */
+	private static final int DEFAULT_SIZE = 13;
+	private int size;
+	private int[] array;
+	/**
+	 * Default constructor for IntMinHeap
+	 * @ensure length is now 14
+	 */
+	public IntMinHeap(){
+		this(DEFAULT_SIZE);
+	}
+	/**
+	 * Constuctor that intializes the size of the heap to the value specified
+	 * @param int i the size of the heap
+	 */
+	public IntMinHeap(int i){
+		this.size = 0;
+		array = new int[i+1];
+	}
+	/**
+	 * A constructor that takes an array of ints as an argument and makes an IntMinHeap out of it
+	 * @param int[] seq The array of values you wish to build a heap from
+	 * @ensures The heap contains every value of seq in MinHeap order
+	 */
+	public IntMinHeap(int[] seq){
+		size = seq.length;
+		array = new int[(size + 2) * 11 / 10];
+		System.arraycopy(seq,0,array,1,size);
+		buildHeap();
+	}
+	/**
+	 * A method to establish MinHeap order
+	 */
+	private void buildHeap(){
+		for(int i = size / 2; i > 0;i--)
+			moveValueDown(i);
+	}
+	/**
+	 * A method to determine if the IntMinHeap is empty
+	 * @return boolean Represents if the heap is empty
+	 */
+	public boolean isEmpty(){
+		/* if the size is 0, its empty */
+		return size == 0;
+	}
+	/**
+	 * A method to determine if the heap is full
+	 * @return boolean Represents if the heap is full
+	 */
+	public boolean isFull(){
+		/* if the size is one less than the length of the array,it is full */
+		return size == array.length - 1;
+	}
+	/**
+	 * A method to return the number of values in the heap
+	 * @return int The number of values in the heap
+	 */
+	public int size(){
+		return size;
+	}
+	/**
+	 * A method to return the heap as a string
+	 * @return string The heap as a printable string
+	 */
+	public String toString(){
+		StringBuilder string = new StringBuilder();
+		for(int i = 0;i < this.size;i++)
+			string.append(" " + array[i+1]);
+		return string.toString().trim();
+	}
+	/**
+	 * A method to enlarge the current array if it is not big enough to store the new value
+	 * @param int i The array size to enlarge to
+	 * @throws IllegalArgumentException() if the value is smaller than the array's size
+	 */
+	private void enlargeArray(int i){
+		/* if the argument is less than the current array size, throw an exception */
+		if(i < array.length)
+			throw new IllegalArgumentException();
+		/* copy the ints over in one bulk copy */
+		array = Arrays.copyOf(array,i);
+	}
+	/**
+	 * A method to insert a value into the heap
+	 * @param int value The value you wish to insert
+	 * @ensure The heap is now larger by one value
+	 */
+	public void insert(int value){
+		/* first check and see if the array is full then increase its size by an
+		 * arbitrary amount if it is. */
+		if(isFull())
+			enlargeArray(array.length * 2 + 1);
+		/* make a marker for the new hole we are putting into the heap that will
+		 * eventually contain the value */
+		int hole = ++size;
+		/* run through the heap going up toward the root until you find the spot for
+		 * the hole, array[0] holds the value so the loop always stops at the root */
+		for(array[0] = value;value < array[hole / 2];hole /= 2)
+			array[hole] = array[hole / 2];
+		array[hole] = value;
+	}
+	/**
+	 * A method to delete from the heap
+	 * @return int value The value you just removed
+	 * @ensure The heap is now one less in size
+	 * @throws IllegalStateException() If the heap is empty
+	 */
+	public int remove(){
+		/* check if the heap is empty */
+		if(isEmpty())
+			throw new IllegalStateException();
+		/* the minimum value is the root which is index 1 not 0 */
+		int item = array[1];
+		/* make it the value of the last element of the heap whilst decreasing the size */
+		array[1] = array[size--];
+		/* move the hole we made at the root down to its proper spot */
+		moveValueDown(1);
+		return item;
+	}
+	/**
+	 * A method to check if the root of a subtree in the heap is following the MinHeap structure
+	 * @param int index The hole we need to move down
+	 * @ensure The value at the index of hole is in keeping with the structure of the MinHeap
+	 */
+	private void moveValueDown(int index){
+		/* marker for the child of the root */
+		int child;
+		/* whereever the hole is starting at, save the value */
+		int item = array[index];
+		for(;index * 2 <= size;index = child){
+			/* go to the next level */
+			child = index * 2;
+			/* if the child is not the last element and its sibling is less than it, increase child
+			 * index */
+			if(child != size && array[child + 1] < array[child])
+				child++;
+			/* the value at the child is less than the value at the hole so the hole moves down */
+			if(array[child] < item)
+				array[index] = array[child];
+			else
+				break;
+		}
+		/* the hole is now at where the item should go so put the value in it */
+		array[index] = item;
+	}
+}
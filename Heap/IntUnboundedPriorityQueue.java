@@ -0,0 +1,46 @@
+/**
+ * An implementation of the UnboundedPriorityQueue class for int priorities. It is backed by an
+ * IntMinHeap so enqueue and dequeue never box the values.
+ */
+public class IntUnboundedPriorityQueue{
+	/**
+	 * The only memeber of this class is the heap
+	 */
+	private IntMinHeap heap;
+	/**
+	 * Default constructor for the IntUnboundedPriorityQueue
+	 */
+	public IntUnboundedPriorityQueue(){
+		this.heap = new IntMinHeap();
+	}
+	/**
+	 * This contructor uses the overloaded constructor for IntMinHeap
+	 */
+	public IntUnboundedPriorityQueue(int i){
+		this.heap = new IntMinHeap(i);
+	}
+	/**
+	 * A method to enqueue a value into the PriorityQueue
+	 * @param int value The value you wish to enqueue into the PriorityQueue
+	 */
+	public void enqueue(int value){
+		this.heap.insert(value);
+	}
+	/**
+	 * A method to dequeue a value from the PriorityQueue
+	 * @return int The value you wish to remove from the PriorityQueue
+	 * @throws IllegalStateException() if the PriorityQueue is empty
+	 */
+	public int dequeue(){
+		if(this.isEmpty())
+			throw new IllegalStateException("The PriorityQueue is empty");
+		return this.heap.remove();
+	}
+	/**
+	 * A method to determine if the heap is empty
+	 * @return boolean Represents if the heap is empty
+	 */
+	public boolean isEmpty(){
+		return this.heap.isEmpty();
+	}
+}
@@ -0,0 +1,282 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+/**
+ * An implementation of the MinHeap data structure specialized for long values. It works on a raw
+ * long[] so none of the values are ever boxed and inserting or removing never allocates unless the
+ * array has to grow.
+ */
+public class LongMinHeap{
+	/**
+	 * The members of the LongMinHeap class will be a size of the array it is using and the
+	 * array itself which holds the raw longs
+	 */
+	private static final int DEFAULT_SIZE = 13;
+	/* a snapshot file starts with the magic number, the size and the checksum of the values */
+	private static final long SNAPSHOT_MAGIC = 0x4c4d48534e415031L;
+	private static final int SNAPSHOT_HEADER = 24;
+	/* the values are written through a buffer this size and mapped back in chunks this size */
+	private static final int SNAPSHOT_BUFFER = 1 << 20;
+	private static final int SNAPSHOT_CHUNK = 1 << 30;
+	private int size;
+	private long[] array;
+	/**
+	 * Default constructor for LongMinHeap
+	 * @ensure length is now 14
+	 */
+	public LongMinHeap(){
+		this(DEFAULT_SIZE);
+	}
+	/**
+	 * Constuctor that intializes the size of the heap to the value specified
+	 * @param int i the size of the heap
+	 */
+	public LongMinHeap(int i){
+		this.size = 0;
+		array = new long[i+1];
+	}
+	/**
+	 * A constructor that takes an array of longs as an argument and makes a LongMinHeap out of it
+	 * @param long[] seq The array of values you wish to build a heap from
+	 * @ensures The heap contains every value of seq in MinHeap order
+	 */
+	public LongMinHeap(long[] seq){
+		size = seq.length;
+		array = new long[(size + 2) * 11 / 10];
+		System.arraycopy(seq,0,array,1,size);
+		buildHeap();
+	}
+	/**
+	 * A constructor that takes over an array already in MinHeap order, the root at index 1
+	 * @param long[] array, int size The array and the number of values in it
+	 */
+	private LongMinHeap(long[] array, int size){
+		this.array = array;
+		this.size = size;
+	}
+	/**
+	 * A method to write the heap to a file so it can be restored without rebuilding it. The file
+	 * is written next to the target under a temporary name, forced to disk and then moved over the
+	 * target, so the target always holds a whole snapshot, the old one or the new one.
+	 * @param Path file Where to write the snapshot
+	 * @throws UncheckedIOException() if the file can not be written
+	 */
+	public void writeSnapshot(Path file){
+		Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+		ByteBuffer buffer = ByteBuffer.allocateDirect(SNAPSHOT_BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+		CRC32C crc = new CRC32C();
+		try(FileChannel channel = FileChannel.open(temp,StandardOpenOption.CREATE,StandardOpenOption.WRITE,StandardOpenOption.TRUNCATE_EXISTING)){
+			/* the header goes in last, once the checksum is known */
+			channel.position(SNAPSHOT_HEADER);
+			for(int i = 1;i <= size;){
+				int count = Math.min(size - i + 1,buffer.capacity() / Long.BYTES);
+				buffer.asLongBuffer().put(array,i,count);
+				buffer.limit(count * Long.BYTES);
+				crc.update(buffer);
+				buffer.flip();
+				while(buffer.hasRemaining())
+					channel.write(buffer);
+				buffer.clear();
+				i += count;
+			}
+			buffer.putLong(SNAPSHOT_MAGIC).putLong(size).putLong(crc.getValue()).flip();
+			while(buffer.hasRemaining())
+				channel.write(buffer,SNAPSHOT_HEADER - buffer.remaining());
+			channel.force(true);
+		}catch(IOException e){
+			throw new UncheckedIOException(e);
+		}
+		try{
+			Files.move(temp,file,StandardCopyOption.REPLACE_EXISTING,StandardCopyOption.ATOMIC_MOVE);
+		}catch(IOException e){
+			throw new UncheckedIOException(e);
+		}
+	}
+	/**
+	 * A method to restore a heap written by writeSnapshot. The file is memory-mapped and its values
+	 * are copied into the heap's array in bulk, they are already in MinHeap order so there is no
+	 * buildHeap.
+	 * @param Path file The snapshot to read
+	 * @return LongMinHeap The restored heap
+	 * @throws UncheckedIOException() if the file can not be read, is not a snapshot, is cut short
+	 * or does not match its checksum
+	 */
+	public static LongMinHeap readSnapshot(Path file){
+		try(FileChannel channel = FileChannel.open(file,StandardOpenOption.READ)){
+			ByteBuffer header = ByteBuffer.allocate(SNAPSHOT_HEADER).order(ByteOrder.LITTLE_ENDIAN);
+			while(header.hasRemaining() && channel.read(header,header.position()) >= 0);
+			header.flip();
+			if(header.remaining() < SNAPSHOT_HEADER || header.getLong() != SNAPSHOT_MAGIC)
+				throw new IOException(file + " is not a heap snapshot");
+			long size = header.getLong();
+			long checksum = header.getLong();
+			if(size < 0 || size >= Integer.MAX_VALUE - 2 || channel.size() != SNAPSHOT_HEADER + size * Long.BYTES)
+				throw new IOException(file + " does not hold the " + size + " values it should");
+			long[] array = new long[(int) size + 2];
+			CRC32C crc = new CRC32C();
+			/* a mapping is limited to 2GB so big snapshots are mapped a chunk at a time */
+			long position = SNAPSHOT_HEADER;
+			for(int i = 1;i <= size;){
+				int count = (int) Math.min(size - i + 1,SNAPSHOT_CHUNK / Long.BYTES);
+				MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY,position,(long) count * Long.BYTES);
+				chunk.order(ByteOrder.LITTLE_ENDIAN).asLongBuffer().get(array,i,count);
+				crc.update(chunk);
+				position += (long) count * Long.BYTES;
+				i += count;
+			}
+			if(crc.getValue() != checksum)
+				throw new IOException(file + " does not match its checksum");
+			return new LongMinHeap(array,(int) size);
+		}catch(IOException e){
+			throw new UncheckedIOException(e);
+		}
+	}
+	/**
+	 * A method to establish MinHeap order
+	 */
+	private void buildHeap(){
+		for(int i = size / 2; i > 0;i--)
+			moveValueDown(i);
+	}
+	/**
+	 * A method to determine if the LongMinHeap is empty
+	 * @return boolean Represents if the heap is empty
+	 */
+	public boolean isEmpty(){
+		/* if the size is 0, its empty */
+		return size == 0;
+	}
+	/**
+	 * A method to determine if the heap is full
+	 * @return boolean Represents if the heap is full
+	 */
+	public boolean isFull(){
+		/* if the size is one less than the length of the array,it is full */
+		return size == array.length - 1;
+	}
+	/**
+	 * A method to return the number of values in the heap
+	 * @return int The number of values in the heap
+	 */
+	public int size(){
+		return size;
+	}
+	/**
+	 * A method to find the minimum value of the heap without removing it
+	 * @return long The minimum value of the heap
+	 * @throws IllegalStateException() If the heap is empty
+	 */
+	public long findMin(){
+		if(isEmpty())
+			throw new IllegalStateException();
+		return array[1];
+	}
+	/**
+	 * A method to return the heap as a string
+	 * @return string The heap as a printable string
+	 */
+	public String toString(){
+		StringBuilder string = new StringBuilder();
+		for(int i = 0;i < this.size;i++)
+			string.append(" " + array[i+1]);
+		return string.toString().trim();
+	}
+	/**
+	 * A method to enlarge the current array if it is not big enough to store the new value
+	 * @param int i The array size to enlarge to
+	 * @throws IllegalArgumentException() if the value is smaller than the array's size
+	 */
+	private void enlargeArray(int i){
+		/* if the argument is less than the current array size, throw an exception */
+		if(i < array.length)
+			throw new IllegalArgumentException();
+		/* copy the longs over in one bulk copy */
+		array = Arrays.copyOf(array,i);
+	}
+	/**
+	 * A method to insert a value into the heap
+	 * @param long value The value you wish to insert
+	 * @ensure The heap is now larger by one value
+	 */
+	public void insert(long value){
+		/* first check and see if the array is full then increase its size by an
+		 * arbitrary amount if it is. */
+		if(isFull())
+			enlargeArray(array.length * 2 + 1);
+		/* make a marker for the new hole we are putting into the heap that will
+		 * eventually contain the value */
+		int hole = ++size;
+		/* run through the heap going up toward the root until you find the spot for
+		 * the hole, array[0] holds the value so the loop always stops at the root */
+		for(array[0] = value;value < array[hole / 2];hole /= 2)
+			array[hole] = array[hole / 2];
+		array[hole] = value;
+	}
+	/**
+	 * A method to delete from the heap
+	 * @return long value The value you just removed
+	 * @ensure The heap is now one less in size
+	 * @throws IllegalStateException() If the heap is empty
+	 */
+	public long remove(){
+		/* check if the heap is empty */
+		if(isEmpty())
+			throw new IllegalStateException();
+		/* the minimum value is the root which is index 1 not 0 */
+		long item = array[1];
+		/* make it the value of the last element of the heap whilst decreasing the size */
+		array[1] = array[size--];
+		/* move the hole we made at the root down to its proper spot */
+		moveValueDown(1);
+		return item;
+	}
+	/**
+	 * A method to replace the minimum value with a new one in a single moveValueDown
+	 * @param long value The value to put in place of the minimum
+	 * @return long The minimum value that was replaced
+	 * @throws IllegalStateException() If the heap is empty
+	 */
+	public long replaceMin(long value){
+		if(isEmpty())
+			throw new IllegalStateException();
+		long item = array[1];
+		array[1] = value;
+		moveValueDown(1);
+		return item;
+	}
+	/**
+	 * A method to check if the root of a subtree in the heap is following the MinHeap structure
+	 * @param int index The hole we need to move down
+	 * @ensure The value at the index of hole is in keeping with the structure of the MinHeap
+	 */
+	private void moveValueDown(int index){
+		/* marker for the child of the root */
+		int child;
+		/* whereever the hole is starting at, save the value */
+		long item = array[index];
+		for(;index * 2 <= size;index = child){
+			/* go to the next level */
+			child = index * 2;
+			/* if the child is not the last element and its sibling is less than it, increase child
+			 * index */
+			if(child != size && array[child + 1] < array[child])
+				child++;
+			/* the value at the child is less than the value at the hole so the hole moves down */
+			if(array[child] < item)
+				array[index] = array[child];
+			else
+				break;
+		}
+		/* the hole is now at where the item should go so put the value in it */
+		array[index] = item;
+	}
+}
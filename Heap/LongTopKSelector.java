@@ -0,0 +1,119 @@
+import java.util.Collection;
+/**
+ * A bounded selector that keeps the k largest longs of a stream using a LongMinHeap of size k.
+ * It works the same way as TopKSelector without boxing any of the values.
+ */
+public class LongTopKSelector{
+	/**
+	 * The members of this class are the number of values to keep and the heap holding them
+	 */
+	private final int k;
+	private final LongMinHeap heap;
+	/**
+	 * Constructor for the LongTopKSelector
+	 * @param int k The number of values to keep
+	 * @throws IllegalArgumentException() if k is less than 1
+	 */
+	public LongTopKSelector(int k){
+		if(k < 1)
+			throw new IllegalArgumentException("k must be at least 1");
+		this.k = k;
+		this.heap = new LongMinHeap(k);
+	}
+	/**
+	 * A method to get the number of values the selector keeps
+	 * @return int k
+	 */
+	public int k(){
+		return k;
+	}
+	/**
+	 * A method to get the number of values kept so far
+	 * @return int The number of values kept, at most k
+	 */
+	public int size(){
+		return heap.size();
+	}
+	/**
+	 * A method to determine if the selector has not kept anything yet
+	 * @return boolean Represents if the selector is empty
+	 */
+	public boolean isEmpty(){
+		return heap.isEmpty();
+	}
+	/**
+	 * A method to get the smallest value kept, which a candidate has to beat once k values are kept
+	 * @return long The smallest value kept
+	 * @throws IllegalStateException() if the selector is empty
+	 */
+	public long threshold(){
+		return heap.findMin();
+	}
+	/**
+	 * A method to offer a value from the stream to the selector
+	 * @param long value The candidate
+	 * @return boolean Represents if the value is now one of the kept values
+	 */
+	public boolean offer(long value){
+		/* until k values are kept everything goes in */
+		if(heap.size() < k){
+			heap.insert(value);
+			return true;
+		}
+		/* the one comparison against the root */
+		if(value <= heap.findMin())
+			return false;
+		heap.replaceMin(value);
+		return true;
+	}
+	/**
+	 * A method to offer every value of an array to the selector
+	 * @param long[] values The candidates
+	 */
+	public void offerAll(long[] values){
+		for(long value : values)
+			offer(value);
+	}
+	/**
+	 * A method to take the kept values out of the selector, largest first
+	 * @return long[] The kept values sorted from largest to smallest
+	 * @ensure The selector is now empty
+	 */
+	public long[] drainSorted(){
+		long[] items = new long[heap.size()];
+		/* the heap gives them smallest first so fill the array from the back */
+		for(int i = items.length - 1;i >= 0;i--)
+			items[i] = heap.remove();
+		return items;
+	}
+	/**
+	 * A method to merge the values kept by another selector into this one
+	 * @param LongTopKSelector other The selector to merge in
+	 * @ensure The other selector is now empty
+	 * @throws IllegalArgumentException() if the other selector keeps a different number of values
+	 */
+	public void merge(LongTopKSelector other){
+		if(other.k != k)
+			throw new IllegalArgumentException("Can not merge a top " + other.k + " selector into a top " + k + " one");
+		while(!other.heap.isEmpty())
+			offer(other.heap.remove());
+	}
+	/**
+	 * A method to merge per-thread selectors in parallel. The selectors are merged pairwise on
+	 * the common ForkJoinPool, so each one must no longer be in use by its thread.
+	 * @param Collection<LongTopKSelector> selectors The selectors to merge, all with the same k
+	 * @return LongTopKSelector One of the selectors, now holding the top k of all of them
+	 * @throws IllegalArgumentException() if there are no selectors or they do not all have the same k
+	 */
+	public static LongTopKSelector mergeAll(Collection<LongTopKSelector> selectors){
+		/* check every k up front so a mismatch is reported before any selector is drained */
+		if(selectors.stream().mapToInt(selector -> selector.k).distinct().count() > 1)
+			throw new IllegalArgumentException("The selectors to merge do not all have the same k");
+		return selectors.parallelStream()
+			.reduce((a,b) -> {
+				a.merge(b);
+				return a;
+			})
+			.orElseThrow(() -> new IllegalArgumentException("There are no selectors to merge"));
+	}
+}
@@ -0,0 +1,46 @@
+/**
+ * An implementation of the UnboundedPriorityQueue class for long priorities. It is backed by an
+ * LongMinHeap so enqueue and dequeue never box the values.
+ */
+public class LongUnboundedPriorityQueue{
+	/**
+	 * The only memeber of this class is the heap
+	 */
+	private LongMinHeap heap;
+	/**
+	 * Default constructor for the LongUnboundedPriorityQueue
+	 */
+	public LongUnboundedPriorityQueue(){
+		this.heap = new LongMinHeap();
+	}
+	/**
+	 * This contructor uses the overloaded constructor for LongMinHeap
+	 */
+	public LongUnboundedPriorityQueue(int i){
+		this.heap = new LongMinHeap(i);
+	}
+	/**
+	 * A method to enqueue a value into the PriorityQueue
+	 * @param long value The value you wish to enqueue into the PriorityQueue
+	 */
+	public void enqueue(long value){
+		this.heap.insert(value);
+	}
+	/**
+	 * A method to dequeue a value from the PriorityQueue
+	 * @return long The value you wish to remove from the PriorityQueue
+	 * @throws IllegalStateException() if the PriorityQueue is empty
+	 */
+	public long dequeue(){
+		if(this.isEmpty())
+			throw new IllegalStateException("The PriorityQueue is empty");
+		return this.heap.remove();
+	}
+	/**
+	 * A method to determine if the heap is empty
+	 * @return boolean Represents if the heap is empty
+	 */
+	public boolean isEmpty(){
+		return this.heap.isEmpty();
+	}
+}
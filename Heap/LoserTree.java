@@ -0,0 +1,133 @@
+import java.lang.Comparable;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+/**
+ * A k-way merge of sorted inputs using a tournament (loser) tree. Each internal node of the tree
+ * remembers the input that lost the match played there and the overall winner is kept at the top,
+ * so after the winner's input moves to its next value only the matches on the path from that
+ * input to the root are replayed, with one comparison per level. A MinHeap of the inputs would
+ * need about two comparisons per level in moveValueDown.
+ *
+ * Equal values come out in the order of their inputs, so the merge is stable.
+ */
+public class LoserTree<T extends Comparable<? super T>> implements Iterator<T>{
+	/**
+	 * The members of the LoserTree class are the inputs, the current value of each, which inputs
+	 * have run out, and the tree. tree[0] is the winner and tree[1] to tree[k - 1] are the losers
+	 * of the matches, the input i plays its first match at node (k + i) / 2.
+	 */
+	private final Iterator<? extends T>[] inputs;
+	private final Object[] heads;
+	private final boolean[] done;
+	private final int[] tree;
+	private final int k;
+	/**
+	 * Constructor for the LoserTree
+	 * @param List<? extends Iterator<? extends T>> inputs The sorted inputs to merge
+	 * @throws IllegalArgumentException() if there are no inputs
+	 */
+	@SuppressWarnings({"unchecked","rawtypes"})
+	public LoserTree(List<? extends Iterator<? extends T>> inputs){
+		if(inputs.isEmpty())
+			throw new IllegalArgumentException("There must be at least one input");
+		this.k = inputs.size();
+		this.inputs = inputs.toArray(new Iterator[k]);
+		this.heads = new Object[k];
+		this.done = new boolean[k];
+		this.tree = new int[k];
+		for(int i = 0;i < k;i++)
+			advance(i);
+		build();
+	}
+	/**
+	 * A method to play every match once, bottom up, filling in the losers and the winner
+	 */
+	private void build(){
+		/* the winner of each node while the tree is built, leaves are at k to 2k - 1 */
+		int[] winners = new int[2 * k];
+		for(int i = 0;i < k;i++)
+			winners[k + i] = i;
+		for(int node = k - 1;node > 0;node--){
+			int left = winners[2 * node];
+			int right = winners[2 * node + 1];
+			if(beats(left,right)){
+				winners[node] = left;
+				tree[node] = right;
+			}else{
+				winners[node] = right;
+				tree[node] = left;
+			}
+		}
+		tree[0] = k == 1 ? 0 : winners[1];
+	}
+	/**
+	 * A method to move an input to its next value
+	 * @param int input The input to advance
+	 */
+	private void advance(int input){
+		if(inputs[input].hasNext())
+			heads[input] = inputs[input].next();
+		else{
+			heads[input] = null;
+			done[input] = true;
+		}
+	}
+	/**
+	 * A method to decide the match between two inputs. An input that has run out always loses and
+	 * equal values go to the lower input.
+	 * @param int a, int b The two inputs
+	 * @return boolean Represents if a wins
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean beats(int a, int b){
+		if(done[a])
+			return false;
+		if(done[b])
+			return true;
+		int comparison = ((T) heads[a]).compareTo((T) heads[b]);
+		return comparison < 0 || (comparison == 0 && a < b);
+	}
+	/**
+	 * A method to determine if any input has a value left
+	 * @return boolean Represents if there is another value
+	 */
+	public boolean hasNext(){
+		return !done[tree[0]];
+	}
+	/**
+	 * A method to get the smallest value left and advance its input
+	 * @return T The next value of the merge
+	 * @throws NoSuchElementException() if every input has run out
+	 */
+	@SuppressWarnings("unchecked")
+	public T next(){
+		int winner = tree[0];
+		if(done[winner])
+			throw new NoSuchElementException();
+		T item = (T) heads[winner];
+		advance(winner);
+		/* replay the matches from the winner's leaf to the root, one comparison each */
+		for(int node = (winner + k) / 2;node > 0;node /= 2){
+			if(beats(tree[node],winner)){
+				int loser = winner;
+				winner = tree[node];
+				tree[node] = loser;
+			}
+		}
+		tree[0] = winner;
+		return item;
+	}
+	/**
+	 * A method to send every remaining value of the merge to a sink, in order
+	 * @param Consumer<? super T> sink Where the values go
+	 * @return long The number of values sent
+	 */
+	public long drainTo(Consumer<? super T> sink){
+		long count = 0;
+		for(;hasNext();count++)
+			sink.accept(next());
+		return count;
+	}
+}
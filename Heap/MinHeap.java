@@ -1,17 +1,41 @@
 import java.lang.Comparable;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.BitSet;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 /**
- * An implementation of the MinHeap data structure
+ * An implementation of the MinHeap data structure. The heap can have an arity of 2, 4 or 8. The
+ * root lives at index arity - 1 so that the children of every node start at a multiple of the
+ * arity, which keeps each group of siblings in one contiguous, aligned block of the array. With an
+ * arity of 2 this is the usual layout with the root at index 1.
  */
-public class MinHeap<T extends Comparable<? super T>>{
+public class MinHeap<T extends Comparable<? super T>> implements PriorityHeap<T>{
 	/**
 	 * The members of the MinHeap class will be a size of the array it is using and the
 	 * array itself which of course is generic
 	 */
 	private static final int DEFAULT_SIZE = 13;
+	private static final int DEFAULT_ARITY = 2;
+	/* heaps built from at least this many elements are heapified on the common ForkJoinPool,
+	 * and subtrees smaller than the sequential threshold are heapified by a single task */
+	private static final int PARALLEL_THRESHOLD = 1 << 16;
+	private static final int SEQUENTIAL_THRESHOLD = 1 << 13;
 	private int size;
 	private T[] array;
+	/* the number of children of each node, log2 of it and the index of the root */
+	private final int arity;
+	private final int shift;
+	private final int root;
 	/**
 	 * Default constructor for MinHeap
 	 * @ensure length is now 14
@@ -23,34 +47,186 @@ public class MinHeap<T extends Comparable<? super T>>{
 	 * Constuctor that intializes the size of the heap to the value specified
 	 * @param int i the size of the heap
 	 */
+	public MinHeap(int i){
+		this(i,DEFAULT_ARITY);
+	}
+	/**
+	 * Constuctor that intializes the size and the arity of the heap
+	 * @param int i, int arity The size of the heap and the number of children of each node
+	 * @throws IllegalArgumentException() if the arity is not 2, 4 or 8
+	 */
 	@SuppressWarnings({"unchecked","rawtypes"})	/*This is done because even though we know a generic type will be
 		 											* an Object and therefore comparable, 
 													* the compiler will warn us about it*/			
-	public MinHeap(int i){
+	public MinHeap(int i, int arity){
 		this.size = 0;
-		array = (T[]) new Comparable[i+1];
+		this.arity = checkArity(arity);
+		this.shift = Integer.numberOfTrailingZeros(arity);
+		this.root = arity - 1;
+		array = (T[]) new Comparable[i + root];
 	}
 	/**
 	 * A constructor that takes an array of items as an argument and makes a MinHeap out of it
 	 * @param T[] seq The array of elements you wish to build a heap from
 	 * @ensures The seq is now in the order of the heap structure
 	 */
-	@SuppressWarnings({"unchecked","rawtypes"})
 	public MinHeap(T[] seq){
+		this(seq,DEFAULT_ARITY);
+	}
+	/**
+	 * A constructor that takes an array of items and an arity and makes a MinHeap out of them
+	 * @param T[] seq, int arity The array of elements you wish to build a heap from and the number
+	 * of children of each node
+	 * @ensures The seq is now in the order of the heap structure
+	 */
+	@SuppressWarnings({"unchecked","rawtypes"})
+	public MinHeap(T[] seq, int arity){
+		this.arity = checkArity(arity);
+		this.shift = Integer.numberOfTrailingZeros(arity);
+		this.root = arity - 1;
 		size = seq.length;
-		array = (T[]) new Comparable[(size + 2) * 11 / 10 ];
-		int i = 1;
-		for(T item : seq)
-			array[i++] = item;
+		array = (T[]) new Comparable[(size + 2) * 11 / 10 + root];
+		System.arraycopy(seq,0,array,root,size);
+		buildHeap();
+	}
+	/**
+	 * A constructor that takes over an array that is already laid out like the heap's own
+	 * @param T[] array, int size, int arity The array, the number of elements in it and the
+	 * number of children of each node
+	 */
+	private MinHeap(T[] array, int size, int arity){
+		this.arity = checkArity(arity);
+		this.shift = Integer.numberOfTrailingZeros(arity);
+		this.root = arity - 1;
+		if(size < 0 || size + root > array.length)
+			throw new IllegalArgumentException("The array can not hold " + size + " elements");
+		this.array = array;
+		this.size = size;
 		buildHeap();
 	}
+	/**
+	 * A method to make a binary MinHeap out of the caller's array without copying it. The elements
+	 * must be in array[1] through array[size], array[0] is used by the heap.
+	 * @param T[] array, int size The array and the number of elements in it
+	 * @return MinHeap<T> A heap that now owns the array
+	 * @ensures The elements of the array are now in the order of the heap structure
+	 * @throws IllegalArgumentException() if the array is too small for size elements
+	 */
+	public static <T extends Comparable<? super T>> MinHeap<T> adopt(T[] array, int size){
+		return new MinHeap<T>(array,size,DEFAULT_ARITY);
+	}
+	/**
+	 * A method to make a MinHeap of any arity out of the caller's array without copying it. The
+	 * elements must be in array[arity - 1] through array[arity + size - 2], the slots before them
+	 * are used by the heap. The caller must not use the array afterwards.
+	 * @param T[] array, int size, int arity The array, the number of elements in it and the number
+	 * of children of each node
+	 * @return MinHeap<T> A heap that now owns the array
+	 * @ensures The elements of the array are now in the order of the heap structure
+	 * @throws IllegalArgumentException() if the array is too small or the arity is not 2, 4 or 8
+	 */
+	public static <T extends Comparable<? super T>> MinHeap<T> adopt(T[] array, int size, int arity){
+		return new MinHeap<T>(array,size,arity);
+	}
+	/**
+	 * A method to make sure the arity is one the heap supports
+	 * @param int arity The requested number of children of each node
+	 * @return int The arity if it is valid
+	 * @throws IllegalArgumentException() if the arity is not 2, 4 or 8
+	 */
+	private static int checkArity(int arity){
+		if(arity != 2 && arity != 4 && arity != 8)
+			throw new IllegalArgumentException("The arity must be 2, 4 or 8");
+		return arity;
+	}
+	/**
+	 * A method to get the number of children of each node
+	 * @return int The arity of the heap
+	 */
+	public int arity(){
+		return arity;
+	}
+	/**
+	 * A method to find the index of the first child of a node, the rest of its children follow it
+	 * @param int index The index of the node
+	 * @return int The index of its first child
+	 */
+	private int firstChild(int index){
+		return (index - root + 1) << shift;
+	}
+	/**
+	 * A method to find the index of the parent of a node. The parent of the root is the slot just
+	 * before it, which insert uses as a sentinel.
+	 * @param int index The index of the node
+	 * @return int The index of its parent
+	 */
+	private int parent(int index){
+		return (index >> shift) + root - 1;
+	}
 	/**
 	 * A method to establish MinHeap order
 	 */
 	private void buildHeap(){
-		for(int i = size / 2; i > 0;i--)
+		/* big heaps are split into subtrees that are heapified in parallel */
+		if(size >= PARALLEL_THRESHOLD){
+			ForkJoinPool.commonPool().invoke(new Heapify(root,0));
+			return;
+		}
+		for(int i = parent(size + root - 1); i >= root;i--)
 			moveValueDown(i);
 	}
+	/**
+	 * A method to establish MinHeap order in the subtree under a node by heapifying the subtree
+	 * of each child first, then moving the node down
+	 * @param int index The root of the subtree
+	 */
+	private void heapifySubtree(int index){
+		int last = size + root - 1;
+		int lastParent = parent(last);
+		/* the children that have children of their own need heapifying first */
+		int child = firstChild(index);
+		int end = Math.min(child + arity - 1,lastParent);
+		for(;child <= end;child++)
+			heapifySubtree(child);
+		moveValueDown(index);
+	}
+	/**
+	 * A task that heapifies the subtree under a node. The subtrees of the node's children do not
+	 * share any elements so they are heapified by separate tasks, then the node is moved down once
+	 * they are all done. Small subtrees are done by the task itself.
+	 */
+	@SuppressWarnings("serial")
+	private class Heapify extends RecursiveAction{
+		private final int index;
+		private final int depth;
+		/**
+		 * Constructor for a Heapify task
+		 * @param int index, int depth The root of the subtree and its depth in the heap
+		 */
+		Heapify(int index, int depth){
+			this.index = index;
+			this.depth = depth;
+		}
+		/**
+		 * A method to heapify the subtree, splitting it while it is big enough
+		 */
+		protected void compute(){
+			/* roughly how many elements are under this node */
+			long subtree = (long) size >> (shift * depth);
+			if(subtree < SEQUENTIAL_THRESHOLD){
+				heapifySubtree(index);
+				return;
+			}
+			int lastParent = parent(size + root - 1);
+			int child = firstChild(index);
+			int end = Math.min(child + arity - 1,lastParent);
+			List<Heapify> tasks = new ArrayList<Heapify>(arity);
+			for(;child <= end;child++)
+				tasks.add(new Heapify(child,depth + 1));
+			invokeAll(tasks);
+			moveValueDown(index);
+		}
+	}
 	/**
 	 * A method to determine if the MinHeap is empty
 	 * @return boolean Represents if the heap is empty
@@ -64,8 +240,8 @@ public class MinHeap<T extends Comparable<? super T>>{
 	 * @return boolean Represents if the heap is full
 	 */
 	public boolean isFull(){
-		/* if the size is one less than the length of the array,it is full */
-		return size == array.length - 1;
+		/* if the size fills every slot from the root onward,it is full */
+		return size == array.length - root;
 	}
 	/**
 	 * A method to return the heap as a string
@@ -75,21 +251,28 @@ public class MinHeap<T extends Comparable<? super T>>{
 	public String toString(){
 		StringBuilder string = new StringBuilder();
 		for(int i = 0;i < this.size;i++){
-			if(array[i+1] == null)
+			if(array[i+root] == null)
 				break;
-			string.append(" " + array[i+1]);
+			string.append(" " + array[i+root]);
 		}
 		return string.toString().trim();
 	}
 	/**
-	 * A method to find the minimum value of the heap
-	 * @return T The minimum value of the heap
+	 * A method to return the number of items in the heap
+	 * @return int The number of items in the heap
+	 */
+	public int size(){
+		return size;
+	}
+	/**
+	 * A method to find the minimum value of the heap without removing it
+	 * @return T The minimum value of the heap, or null if it is empty
 	 */
-	private T findMin(){
+	public T findMin(){
 		if(isEmpty())
 			return null;
-		/* the minimum value of the minHeap is the root which is index 1 not 0 */
-		return array[1];
+		/* the minimum value of the minHeap is the root which is index arity - 1 not 0 */
+		return array[root];
 	}
 	/**
 	 * A method to enlarge the current array if it is not big enough to store the new item
@@ -102,10 +285,8 @@ public class MinHeap<T extends Comparable<? super T>>{
 		if(i < array.length)
 			throw new IllegalArgumentException();
 		T[] newArray = (T[]) new Comparable[i];
-		for(int j = 0; j < array.length;j++){
-			/* copy each element to the new array */
-			newArray[j] = array[j];
-		}
+		/* copy every element to the new array */
+		System.arraycopy(array,0,newArray,0,array.length);
 		/* set the pointer for array to be newArray with the bigger size */
 		array = newArray;
 	}
@@ -121,17 +302,75 @@ public class MinHeap<T extends Comparable<? super T>>{
 			enlargeArray(array.length * 2 + 1);
 		/* make a marker for the new hole we are putting into the heap that will
 		 * eventually contain the value */
-		int hole = ++size;
+		moveValueUp(++size + root - 1,value);
+	}
+	/**
+	 * A method to move a value from a hole up toward the root until it is in MinHeap order
+	 * @param int hole, T value The index of the hole and the value that goes in it
+	 * @ensure The value is at its proper spot in the heap
+	 */
+	private void moveValueUp(int hole, T value){
 		/* run through the heap going up toward the root until you find the spot for
-		 * the hole */
-		for(array[0] = value;value.compareTo(array[hole / 2]) < 0;hole /= 2)
-			/* the hole will go up a level each iteration by dividing the index
-			 * by 2 */
-			array[hole] = array[hole / 2];
+		 * the hole, the slot before the root holds the value so the loop stops there */
+		for(array[root - 1] = value;value.compareTo(array[parent(hole)]) < 0;hole = parent(hole))
+			/* the hole will go up a level each iteration */
+			array[hole] = array[parent(hole)];
 		/* once it stops when the value is greater than the root of the subtree,
 		 * it will stop and make that hole value the index*/
 		array[hole] = value;
 	}
+	/**
+	 * A method to make room for a batch of values with at most one enlargeArray
+	 * @param int count The number of values about to be added
+	 */
+	private void ensureCapacity(int count){
+		int needed = size + count + root;
+		if(needed > array.length)
+			enlargeArray(Math.max(needed,array.length * 2 + 1));
+	}
+	/**
+	 * A method to decide how a batch is added. Inserting one at a time costs up to log n per
+	 * value while appending everything and calling buildHeap costs O(n + count), so once the
+	 * batch is at least half the size of the heap the rebuild is the cheaper choice.
+	 * @param int count The number of values in the batch
+	 * @return boolean Represents if the heap should be rebuilt instead
+	 */
+	private boolean rebuildFor(int count){
+		return (long) count * 2 >= size;
+	}
+	/**
+	 * A method to insert every value of an array into the heap. The array grows at most once.
+	 * @param T[] values The values you wish to insert
+	 * @ensure The heap is now larger by values.length items
+	 */
+	public void insertAll(T[] values){
+		ensureCapacity(values.length);
+		if(rebuildFor(values.length)){
+			/* put the batch after the last element and restore the order in one pass */
+			System.arraycopy(values,0,array,size + root,values.length);
+			size += values.length;
+			buildHeap();
+		}else
+			for(T value : values)
+				moveValueUp(++size + root - 1,value);
+	}
+	/**
+	 * A method to insert every value of a collection into the heap. The array grows at most once.
+	 * @param Collection<? extends T> values The values you wish to insert
+	 * @ensure The heap is now larger by values.size() items
+	 */
+	public void insertAll(Collection<? extends T> values){
+		int count = values.size();
+		ensureCapacity(count);
+		if(rebuildFor(count)){
+			/* put the batch after the last element and restore the order in one pass */
+			for(T value : values)
+				array[root + size++] = value;
+			buildHeap();
+		}else
+			for(T value : values)
+				moveValueUp(++size + root - 1,value);
+	}
 	/**
 	 * A method to delete from the heap
 	 * @return T value The item you just removed
@@ -142,14 +381,243 @@ public class MinHeap<T extends Comparable<? super T>>{
 		/* check if the heap is empty */
 		if(isEmpty())
 			throw new IllegalStateException();
-		/* get the value at array[1] */
+		/* get the value at the root */
 		T item = findMin();
 		/* make it the value of the last element of the heap whilst decreasing the size */ 
-		array[1] = array[size--];
+		array[root] = array[root + --size];
 		/* move the hole we made at the root down to its proper spot */
-		moveValueDown(1);
+		moveValueDown(root);
+		return item;
+	}
+	/**
+	 * A method to replace the minimum value with a new one in a single moveValueDown. This is
+	 * cheaper than a remove followed by an insert.
+	 * @param T value The value to put in place of the minimum
+	 * @return T The minimum value that was replaced
+	 * @throws IllegalStateException() If the heap is empty
+	 */
+	public T replaceMin(T value){
+		if(isEmpty())
+			throw new IllegalStateException();
+		T item = array[root];
+		array[root] = value;
+		moveValueDown(root);
+		return item;
+	}
+	/**
+	 * A method to move every value of another MinHeap into this one. The other heap's elements are
+	 * copied after the last element of this one and the order is restored with one buildHeap, which
+	 * is O(n + m) instead of removing and inserting them one at a time.
+	 * @param MinHeap<T> other The heap to meld in
+	 * @ensure The other heap is now empty
+	 * @throws IllegalArgumentException() if the other heap is this heap
+	 */
+	public void meld(MinHeap<T> other){
+		if(other == this)
+			throw new IllegalArgumentException("A heap can not be melded with itself");
+		ensureCapacity(other.size);
+		System.arraycopy(other.array,other.root,array,size + root,other.size);
+		size += other.size;
+		buildHeap();
+		/* empty the other heap without keeping its values alive */
+		Arrays.fill(other.array,null);
+		other.size = 0;
+	}
+	/**
+	 * A method to remove up to maxN of the smallest values, in order, into a collection
+	 * @param Collection<? super T> sink, int maxN Where the values go and the most to remove
+	 * @return int The number of values removed
+	 * @throws IllegalArgumentException() if maxN is negative
+	 */
+	public int drainTo(Collection<? super T> sink, int maxN){
+		if(maxN < 0)
+			throw new IllegalArgumentException("maxN can not be negative");
+		int count = Math.min(maxN,size);
+		for(int i = 0;i < count;i++)
+			sink.add(removeRoot());
+		return count;
+	}
+	/**
+	 * A method to remove the root without checking for an empty heap. Rather than moving the last
+	 * element down from the root, which compares it against the children on every level, the hole
+	 * is walked down along the smallest children to a leaf and the last element is moved up from
+	 * there. It usually belongs near the leaves so that saves a comparison on each level.
+	 * @return T The minimum value of the heap
+	 */
+	private T removeRoot(){
+		T item = array[root];
+		/* take the last element out, the hole at the root goes down to a leaf without it */
+		int last = size-- + root - 1;
+		T moved = array[last];
+		array[last] = null;
+		last--;
+		int lastParent = parent(last);
+		int hole = root;
+		while(hole <= lastParent){
+			int child = firstChild(hole);
+			int end = Math.min(child + arity - 1,last);
+			for(int sibling = child + 1;sibling <= end;sibling++)
+				if(array[sibling].compareTo(array[child]) < 0)
+					child = sibling;
+			array[hole] = array[child];
+			hole = child;
+		}
+		/* nothing is left to place if the root was the only element */
+		if(size > 0)
+			moveValueUp(hole,moved);
+		else
+			array[root] = null;
 		return item;
 	}
+	/**
+	 * A method to remove the k smallest values of the heap
+	 * @param int k The number of values to remove
+	 * @return List<T> The values removed in order, fewer than k if the heap runs out
+	 * @throws IllegalArgumentException() if k is negative
+	 */
+	public List<T> removeN(int k){
+		List<T> items = new ArrayList<T>(Math.max(0,Math.min(k,size)));
+		drainTo(items,k);
+		return items;
+	}
+	/**
+	 * A method to walk the values of the heap in order without removing them. The heap must not be
+	 * changed while the iterator is in use.
+	 * @return Iterator<T> An iterator that gives the values from smallest to largest
+	 */
+	public Iterator<T> sortedIterator(){
+		return new SortedIterator();
+	}
+	/**
+	 * A method to stream the values of the heap in order without removing them. The values are
+	 * found lazily so a short-circuiting stream such as one ending in limit(m) only pays for the
+	 * values it takes. The heap must not be changed while the stream is in use.
+	 * @return Stream<T> A sequential stream of the values from smallest to largest
+	 */
+	public Stream<T> stream(){
+		return StreamSupport.stream(Spliterators.spliterator(new SortedIterator(),size,
+				Spliterator.ORDERED | Spliterator.SORTED | Spliterator.SIZED | Spliterator.NONNULL),false);
+	}
+	/**
+	 * A method to put the k smallest values of an array, in order, at the front of it. The array
+	 * is heapified in O(n) and the k values are then taken with a sorted iterator in O(k log k),
+	 * instead of the O(n log n) of sorting the whole array.
+	 * @param T[] a, int k The array and the number of values to sort
+	 * @ensure a[0] through a[k - 1] are the k smallest values in order, the rest of the values
+	 * follow them in no particular order
+	 * @throws IllegalArgumentException() if k is negative or larger than the array
+	 */
+	public static <T extends Comparable<? super T>> void partialSort(T[] a, int k){
+		if(k < 0 || k > a.length)
+			throw new IllegalArgumentException("k must be between 0 and " + a.length);
+		if(k == 0)
+			return;
+		MinHeap<T> heap = new MinHeap<T>(a);
+		MinHeap<T>.SortedIterator sorted = heap.new SortedIterator();
+		/* remember which slots of the heap were handed out so the others can fill the rest */
+		BitSet taken = new BitSet(heap.size + heap.root);
+		for(int i = 0;i < k;i++){
+			int index = sorted.nextIndex();
+			taken.set(index);
+			a[i] = heap.array[index];
+		}
+		int next = k;
+		for(int index = taken.nextClearBit(heap.root);index < heap.size + heap.root;index = taken.nextClearBit(index + 1))
+			a[next++] = heap.array[index];
+	}
+	/**
+	 * An iterator that walks the heap in order. It keeps a small binary heap of indices, the
+	 * frontier, holding every node whose parent has been handed out but which has not been itself.
+	 * The smallest of them is the next value in order, and handing it out adds its children to the
+	 * frontier. Taking m values therefore costs O(m log m) and leaves the heap untouched.
+	 */
+	private class SortedIterator implements Iterator<T>{
+		/**
+		 * The members of this class are the frontier and how many indices it holds
+		 */
+		private int[] frontier = new int[16];
+		private int count;
+		/**
+		 * Constructor, starts the frontier at the root
+		 */
+		SortedIterator(){
+			if(size > 0)
+				frontier[count++] = root;
+		}
+		/**
+		 * A method to determine if there are values left
+		 * @return boolean Represents if next will return a value
+		 */
+		public boolean hasNext(){
+			return count > 0;
+		}
+		/**
+		 * A method to get the next value in order
+		 * @return T The next smallest value of the heap
+		 * @throws NoSuchElementException() if every value has been handed out
+		 */
+		public T next(){
+			return array[nextIndex()];
+		}
+		/**
+		 * A method to get the index in the heap's array of the next value in order
+		 * @return int The index of the next smallest value
+		 * @throws NoSuchElementException() if every value has been handed out
+		 */
+		int nextIndex(){
+			if(count == 0)
+				throw new NoSuchElementException("Every value of the heap has been returned");
+			int index = frontier[0];
+			/* the children replace the node, the first one takes its place at the top */
+			int child = firstChild(index);
+			int end = Math.min(child + arity,size + root);
+			if(child < end){
+				frontier[0] = child++;
+				siftDown(0);
+			}else{
+				frontier[0] = frontier[--count];
+				if(count > 0)
+					siftDown(0);
+			}
+			for(;child < end;child++)
+				push(child);
+			return index;
+		}
+		/**
+		 * A method to add an index to the frontier
+		 * @param int index The index of the node to add
+		 */
+		private void push(int index){
+			if(count == frontier.length)
+				frontier = Arrays.copyOf(frontier,count * 2);
+			int hole = count++;
+			/* move the hole up while its parent's value is larger */
+			while(hole > 0){
+				int up = (hole - 1) >> 1;
+				if(array[frontier[up]].compareTo(array[index]) <= 0)
+					break;
+				frontier[hole] = frontier[up];
+				hole = up;
+			}
+			frontier[hole] = index;
+		}
+		/**
+		 * A method to move an index of the frontier down until its value is in order
+		 * @param int hole The position in the frontier to move down
+		 */
+		private void siftDown(int hole){
+			int index = frontier[hole];
+			for(int child = 2 * hole + 1;child < count;child = 2 * hole + 1){
+				if(child + 1 < count && array[frontier[child + 1]].compareTo(array[frontier[child]]) < 0)
+					child++;
+				if(array[frontier[child]].compareTo(array[index]) >= 0)
+					break;
+				frontier[hole] = frontier[child];
+				hole = child;
+			}
+			frontier[hole] = index;
+		}
+	}
 	/**
 	 * A method to check if the root of a subtree in the heap is following the MinHeap structure
 	 * @param int hole The hole we need to move down
@@ -158,17 +626,22 @@ public class MinHeap<T extends Comparable<? super T>>{
 	private void moveValueDown(int index){
 		/* marker for the child of the root */
 		int child;
+		/* the last element of the heap and the last node that has any children */
+		int last = size + root - 1;
+		int lastParent = parent(last);
 		/* whereever the hole is starting at, save the value */
 		T item = array[index];
 		/* infinite loop for moving the hole down, breaks when the element is greater than the value
 		 * at the hole, meaning we found the location for the item*/
-		for(;index * 2 <= size;index = child){
+		for(;index <= lastParent;index = child){
 			/* go to the next level */
-			child = index * 2;
-			/* if the child is not the last element and its sibling is less than it, increase child
-			 * index */
-			if(child != size && array[child + 1].compareTo(array[child]) < 0)
-				child++;
+			child = firstChild(index);
+			/* the siblings sit next to each other so scan the whole block for the smallest one,
+			 * stopping early if the block runs past the last element */
+			int end = Math.min(child + arity - 1,last);
+			for(int sibling = child + 1;sibling <= end;sibling++)
+				if(array[sibling].compareTo(array[child]) < 0)
+					child = sibling;
 			/* the value at the child index is less than the value at the hole, the value at the
 			 * hole becomes the value at the child meaning the hole moves down */
 			if(array[child].compareTo(item) < 0)
@@ -0,0 +1,249 @@
+import java.lang.Comparable;
+/**
+ * An implementation of the min-max heap, a double ended priority queue in a single array. Nodes on
+ * even levels are smaller than everything below them and nodes on odd levels are larger than
+ * everything below them, so the minimum is the root and the maximum is one of its two children.
+ * peekMin and peekMax are O(1), insert, removeMin and removeMax are O(log n). As a PriorityHeap it
+ * behaves like a MinHeap.
+ */
+public class MinMaxHeap<T extends Comparable<? super T>> implements PriorityHeap<T>{
+	/**
+	 * The members of the MinMaxHeap class are the array, with the root at index 1, and the number
+	 * of values in it
+	 */
+	private static final int DEFAULT_SIZE = 13;
+	private T[] array;
+	private int size;
+	/**
+	 * Default constructor for the MinMaxHeap
+	 */
+	public MinMaxHeap(){
+		this(DEFAULT_SIZE);
+	}
+	/**
+	 * Constructor that picks the initial size of the array
+	 * @param int i The number of values the heap can hold before it grows
+	 * @throws IllegalArgumentException() if the size is negative
+	 */
+	@SuppressWarnings({"unchecked","rawtypes"})
+	public MinMaxHeap(int i){
+		if(i < 0)
+			throw new IllegalArgumentException("The size can not be negative");
+		array = (T[]) new Comparable[i + 1];
+	}
+	/**
+	 * A constructor that takes an array of items and makes a MinMaxHeap out of them in O(n)
+	 * @param T[] seq The array of elements you wish to build a heap from
+	 */
+	public MinMaxHeap(T[] seq){
+		this(seq.length + 1);
+		System.arraycopy(seq,0,array,1,seq.length);
+		size = seq.length;
+		/* trickle every node with children down, from the last one back to the root */
+		for(int i = size / 2;i >= 1;i--)
+			trickleDown(i);
+	}
+	/**
+	 * A method to determine if the heap is empty
+	 * @return boolean Represents if the heap is empty
+	 */
+	public boolean isEmpty(){
+		return size == 0;
+	}
+	/**
+	 * A method to return the number of values in the heap
+	 * @return int The number of values in the heap
+	 */
+	public int size(){
+		return size;
+	}
+	/**
+	 * A method to return the heap as a string
+	 * @return string The heap as a printable string, in array order
+	 */
+	public String toString(){
+		StringBuilder string = new StringBuilder();
+		for(int i = 1;i <= size;i++)
+			string.append(" " + array[i]);
+		return string.toString().trim();
+	}
+	/**
+	 * A method to find the minimum value of the heap without removing it
+	 * @return T The minimum value of the heap, or null if it is empty
+	 */
+	public T peekMin(){
+		return size == 0 ? null : array[1];
+	}
+	/**
+	 * A method to find the maximum value of the heap without removing it
+	 * @return T The maximum value of the heap, or null if it is empty
+	 */
+	public T peekMax(){
+		return size == 0 ? null : array[maxIndex()];
+	}
+	/**
+	 * A method to find the minimum value of the heap without removing it, the same as peekMin
+	 * @return T The minimum value of the heap, or null if it is empty
+	 */
+	public T findMin(){
+		return peekMin();
+	}
+	/**
+	 * A method to insert a value into the heap
+	 * @param T value The value you wish to insert
+	 * @ensure The heap is now larger by one item
+	 */
+	public void insert(T value){
+		if(size + 1 == array.length)
+			enlargeArray(array.length * 2 + 1);
+		int hole = ++size;
+		if(hole == 1){
+			array[1] = value;
+			return;
+		}
+		int parent = hole >> 1;
+		boolean min = isMinLevel(hole);
+		/* a value on the wrong side of its parent belongs on the parent's levels instead */
+		if(before(array[parent],value,min)){
+			array[hole] = array[parent];
+			moveValueUp(parent,value,!min);
+		}else
+			moveValueUp(hole,value,min);
+	}
+	/**
+	 * A method to delete the minimum value from the heap
+	 * @return T The value you just removed
+	 * @throws IllegalStateException() If the heap is empty
+	 */
+	public T remove(){
+		return removeMin();
+	}
+	/**
+	 * A method to delete the minimum value from the heap
+	 * @return T The value you just removed
+	 * @ensure The heap is now one less in size
+	 * @throws IllegalStateException() If the heap is empty
+	 */
+	public T removeMin(){
+		if(isEmpty())
+			throw new IllegalStateException();
+		return removeAt(1);
+	}
+	/**
+	 * A method to delete the maximum value from the heap
+	 * @return T The value you just removed
+	 * @ensure The heap is now one less in size
+	 * @throws IllegalStateException() If the heap is empty
+	 */
+	public T removeMax(){
+		if(isEmpty())
+			throw new IllegalStateException();
+		return removeAt(maxIndex());
+	}
+	/**
+	 * A method to find the index of the maximum, which is the root or the larger of its children
+	 * @return int The index of the maximum value
+	 */
+	private int maxIndex(){
+		if(size == 1)
+			return 1;
+		if(size == 2)
+			return 2;
+		return array[3].compareTo(array[2]) > 0 ? 3 : 2;
+	}
+	/**
+	 * A method to remove the value at the root of a min or max level and fill the hole with the
+	 * last value
+	 * @param int index The index of the value to remove, 1 or one of its children
+	 * @return T The removed value
+	 */
+	private T removeAt(int index){
+		T item = array[index];
+		T last = array[size];
+		array[size--] = null;
+		if(index <= size){
+			array[index] = last;
+			trickleDown(index);
+		}
+		return item;
+	}
+	/**
+	 * A method to determine if a node is on a min level, the levels counted from 0 at the root
+	 * @param int index The index of the node
+	 * @return boolean Represents if the node is on an even level
+	 */
+	private static boolean isMinLevel(int index){
+		return (Integer.numberOfLeadingZeros(index) & 1) == 1;
+	}
+	/**
+	 * A method to compare two values in the order of a min or max level
+	 * @param T a, T b, boolean min The values and which kind of level the comparison is for
+	 * @return boolean Represents if a has to be above b, strictly smaller on a min level and
+	 * strictly larger on a max level
+	 */
+	private static <T extends Comparable<? super T>> boolean before(T a, T b, boolean min){
+		int compare = a.compareTo(b);
+		return min ? compare < 0 : compare > 0;
+	}
+	/**
+	 * A method to move a value up from a hole through its grandparents, which are the nodes on
+	 * the same kind of level
+	 * @param int hole, T value, boolean min The index of the hole, the value that goes in it and
+	 * the kind of level the hole is on
+	 * @ensure The value is at its proper spot in the heap
+	 */
+	private void moveValueUp(int hole, T value, boolean min){
+		for(int grandparent = hole >> 2;grandparent >= 1 && before(value,array[grandparent],min);grandparent = hole >> 2){
+			array[hole] = array[grandparent];
+			hole = grandparent;
+		}
+		array[hole] = value;
+	}
+	/**
+	 * A method to move the value at an index down through its grandchildren until it is in
+	 * min-max order, it is compared against the children and grandchildren on every step
+	 * @param int index The index of the value to move down
+	 * @ensure The value at the index is in keeping with the structure of the MinMaxHeap
+	 */
+	private void trickleDown(int index){
+		boolean min = isMinLevel(index);
+		T item = array[index];
+		while(2 * index <= size){
+			/* find the first among the children and the grandchildren */
+			int best = 2 * index;
+			int end = Math.min(4 * index + 3,size);
+			if(best + 1 <= size && before(array[best + 1],array[best],min))
+				best++;
+			for(int grandchild = 4 * index;grandchild <= end;grandchild++)
+				if(before(array[grandchild],array[best],min))
+					best = grandchild;
+			if(!before(array[best],item,min))
+				break;
+			array[index] = array[best];
+			/* a child has no children of its own to look at so the item stops there */
+			if(best < 4 * index){
+				index = best;
+				break;
+			}
+			/* the item may be on the wrong side of the grandchild's parent, swap them if so */
+			int parent = best >> 1;
+			if(before(array[parent],item,min)){
+				T swap = array[parent];
+				array[parent] = item;
+				item = swap;
+			}
+			index = best;
+		}
+		array[index] = item;
+	}
+	/**
+	 * A method to enlarge the current array if it is not big enough to store the new item
+	 * @param int i The array size to enlarge to
+	 */
+	@SuppressWarnings({"unchecked","rawtypes"})
+	private void enlargeArray(int i){
+		T[] newArray = (T[]) new Comparable[i];
+		System.arraycopy(array,0,newArray,0,size + 1);
+		array = newArray;
+	}
+}
@@ -0,0 +1,196 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+/**
+ * A MinHeap of fixed-size records kept outside the Java heap in direct ByteBuffers, so a queue of
+ * a billion records is a few large buffers to the garbage collector instead of a billion objects.
+ * Each record holds a long key at a fixed offset and the heap is ordered by it. Sifting copies the
+ * raw bytes of the records and the only comparison is between two primitive longs.
+ *
+ * The records live in chunks of equal size. Growing adds a chunk and never copies the records
+ * already stored. Slot 0 of the first chunk is scratch space for the record being moved, the root
+ * is slot 1 like in LongMinHeap. The heap is not thread-safe.
+ */
+public class OffHeapMinHeap{
+	/**
+	 * The members of this class are the layout of a record, the chunks and the number of records
+	 */
+	/* a chunk is kept to at most this many bytes, and at least one record */
+	private static final int CHUNK_BYTES = 1 << 26;
+	private final int recordSize;
+	private final int keyOffset;
+	private final ByteOrder order;
+	private final int chunkShift;
+	private final int chunkMask;
+	private final List<ByteBuffer> chunks = new ArrayList<ByteBuffer>();
+	private int size;
+	/**
+	 * Constructor for records whose key is big-endian, the default order of a ByteBuffer
+	 * @param int recordSize, int keyOffset The number of bytes in a record and where its key is
+	 * @throws IllegalArgumentException() if the key does not fit in the record
+	 */
+	public OffHeapMinHeap(int recordSize, int keyOffset){
+		this(recordSize,keyOffset,ByteOrder.BIG_ENDIAN);
+	}
+	/**
+	 * Constructor that also picks the byte order the keys are written in
+	 * @param int recordSize, int keyOffset, ByteOrder order The number of bytes in a record, where
+	 * its key is and the byte order of the key
+	 * @throws IllegalArgumentException() if the key does not fit in the record
+	 */
+	public OffHeapMinHeap(int recordSize, int keyOffset, ByteOrder order){
+		if(keyOffset < 0 || recordSize < keyOffset + Long.BYTES)
+			throw new IllegalArgumentException("A " + recordSize + " byte record has no long key at " + keyOffset);
+		this.recordSize = recordSize;
+		this.keyOffset = keyOffset;
+		this.order = order;
+		/* a power of two records per chunk so a slot is found with a shift and a mask */
+		this.chunkShift = 31 - Integer.numberOfLeadingZeros(Math.max(1,CHUNK_BYTES / recordSize));
+		this.chunkMask = (1 << chunkShift) - 1;
+		addChunk();
+	}
+	/**
+	 * A method to get the number of bytes in a record
+	 * @return int The size of a record
+	 */
+	public int recordSize(){
+		return recordSize;
+	}
+	/**
+	 * A method to determine if the heap is empty
+	 * @return boolean Represents if the heap is empty
+	 */
+	public boolean isEmpty(){
+		return size == 0;
+	}
+	/**
+	 * A method to return the number of records in the heap
+	 * @return int The number of records in the heap
+	 */
+	public int size(){
+		return size;
+	}
+	/**
+	 * A method to find the smallest key without removing its record
+	 * @return long The key of the minimum record
+	 * @throws IllegalStateException() If the heap is empty
+	 */
+	public long findMinKey(){
+		if(isEmpty())
+			throw new IllegalStateException();
+		return key(1);
+	}
+	/**
+	 * A method to copy the minimum record out without removing it
+	 * @param ByteBuffer sink Where the record goes, at its position which moves past the record
+	 * @throws IllegalStateException() If the heap is empty
+	 */
+	public void peek(ByteBuffer sink){
+		if(isEmpty())
+			throw new IllegalStateException();
+		copyOut(1,sink);
+	}
+	/**
+	 * A method to insert a record into the heap
+	 * @param ByteBuffer record The record, read from its position which moves past it
+	 * @ensure The heap is now larger by one record
+	 * @throws IllegalStateException() if the heap already holds Integer.MAX_VALUE - 1 records
+	 */
+	public void insert(ByteBuffer record){
+		if(size == Integer.MAX_VALUE - 1)
+			throw new IllegalStateException("The heap is full");
+		/* add a chunk when the new slot is past the last one, nothing already stored moves */
+		if((size + 1) >>> chunkShift == chunks.size())
+			addChunk();
+		/* the record waits in the scratch slot while the hole moves up to where it belongs */
+		chunks.get(0).put(0,record,record.position(),recordSize);
+		record.position(record.position() + recordSize);
+		long key = key(0);
+		int hole = ++size;
+		for(;hole > 1 && key < key(hole >>> 1);hole >>>= 1)
+			copy(hole >>> 1,hole);
+		copy(0,hole);
+	}
+	/**
+	 * A method to delete the minimum record from the heap
+	 * @param ByteBuffer sink Where the removed record goes, at its position which moves past the
+	 * record, or null to drop it
+	 * @return long The key of the removed record
+	 * @ensure The heap is now one less in size
+	 * @throws IllegalStateException() If the heap is empty
+	 */
+	public long remove(ByteBuffer sink){
+		if(isEmpty())
+			throw new IllegalStateException();
+		long item = key(1);
+		if(sink != null)
+			copyOut(1,sink);
+		/* move the last record into the scratch slot and let the hole at the root go down */
+		copy(size--,0);
+		if(size > 0)
+			moveValueDown(key(0));
+		return item;
+	}
+	/**
+	 * A method to delete every record and let go of all but the first chunk
+	 */
+	public void clear(){
+		size = 0;
+		while(chunks.size() > 1)
+			chunks.remove(chunks.size() - 1);
+	}
+	/**
+	 * A method to move the hole at the root down until the record in the scratch slot fits in it
+	 * @param long key The key of the record in the scratch slot
+	 * @ensure The record is at its proper spot in the heap
+	 */
+	private void moveValueDown(long key){
+		int hole = 1;
+		for(int child;(child = hole << 1) <= size && child > 0;hole = child){
+			long childKey = key(child);
+			/* the sibling is the smaller child if it is */
+			if(child != size){
+				long siblingKey = key(child + 1);
+				if(siblingKey < childKey){
+					child++;
+					childKey = siblingKey;
+				}
+			}
+			if(childKey < key)
+				copy(child,hole);
+			else
+				break;
+		}
+		copy(0,hole);
+	}
+	/**
+	 * A method to read the key of the record in a slot
+	 * @param int slot The index of the slot
+	 * @return long The key of the record
+	 */
+	private long key(int slot){
+		return chunks.get(slot >>> chunkShift).getLong((slot & chunkMask) * recordSize + keyOffset);
+	}
+	/**
+	 * A method to copy the bytes of a record from one slot to another
+	 * @param int from, int to The index of the slots
+	 */
+	private void copy(int from, int to){
+		chunks.get(to >>> chunkShift).put((to & chunkMask) * recordSize,chunks.get(from >>> chunkShift),(from & chunkMask) * recordSize,recordSize);
+	}
+	/**
+	 * A method to copy the record in a slot to the caller's buffer
+	 * @param int slot, ByteBuffer sink The index of the slot and where the record goes
+	 */
+	private void copyOut(int slot, ByteBuffer sink){
+		sink.put(sink.position(),chunks.get(slot >>> chunkShift),(slot & chunkMask) * recordSize,recordSize);
+		sink.position(sink.position() + recordSize);
+	}
+	/**
+	 * A method to add another chunk of slots
+	 */
+	private void addChunk(){
+		chunks.add(ByteBuffer.allocateDirect((chunkMask + 1) * recordSize).order(order));
+	}
+}
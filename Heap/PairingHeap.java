@@ -0,0 +1,129 @@
+import java.lang.Comparable;
+/**
+ * An implementation of a pairing heap, a heap of linked nodes that can be melded with another one
+ * in O(1). insert is O(1) and remove is amortized O(log n). It can back an UnboundedPriorityQueue
+ * when queues have to be merged often.
+ */
+public class PairingHeap<T extends Comparable<? super T>> implements PriorityHeap<T>{
+	/**
+	 * The members of the PairingHeap class are the root node and the number of values
+	 */
+	private Node<T> root;
+	private int size;
+	/**
+	 * A method to determine if the heap is empty
+	 * @return boolean Represents if the heap is empty
+	 */
+	public boolean isEmpty(){
+		return root == null;
+	}
+	/**
+	 * A method to return the number of values in the heap
+	 * @return int The number of values in the heap
+	 */
+	public int size(){
+		return size;
+	}
+	/**
+	 * A method to find the minimum value of the heap without removing it
+	 * @return T The minimum value of the heap, or null if it is empty
+	 */
+	public T findMin(){
+		return root == null ? null : root.value;
+	}
+	/**
+	 * A method to insert a value into the heap by melding it in as a heap of one node
+	 * @param T value The value you wish to insert
+	 */
+	public void insert(T value){
+		Node<T> node = new Node<T>(value);
+		root = root == null ? node : link(root,node);
+		size++;
+	}
+	/**
+	 * A method to move every value of another heap into this one in O(1)
+	 * @param PairingHeap<T> other The heap to meld in
+	 * @ensure The other heap is now empty
+	 * @throws IllegalArgumentException() if the other heap is this heap
+	 */
+	public void meld(PairingHeap<T> other){
+		if(other == this)
+			throw new IllegalArgumentException("A heap can not be melded with itself");
+		if(other.root == null)
+			return;
+		root = root == null ? other.root : link(root,other.root);
+		size += other.size;
+		other.root = null;
+		other.size = 0;
+	}
+	/**
+	 * A method to delete from the heap. The children of the root are linked in pairs from left to
+	 * right and the pairs are then linked from right to left, both without recursion.
+	 * @return T value The item you just removed
+	 * @throws IllegalStateException() If the heap is empty
+	 */
+	public T remove(){
+		if(isEmpty())
+			throw new IllegalStateException();
+		T item = root.value;
+		/* first pass, link the children in pairs and keep the pairs in reverse order */
+		Node<T> pairs = null;
+		Node<T> first = root.child;
+		while(first != null){
+			Node<T> second = first.sibling;
+			if(second == null){
+				first.sibling = pairs;
+				pairs = first;
+				break;
+			}
+			Node<T> rest = second.sibling;
+			first.sibling = null;
+			second.sibling = null;
+			Node<T> pair = link(first,second);
+			pair.sibling = pairs;
+			pairs = pair;
+			first = rest;
+		}
+		/* second pass, link the pairs starting from the last one */
+		Node<T> newRoot = null;
+		while(pairs != null){
+			Node<T> next = pairs.sibling;
+			pairs.sibling = null;
+			newRoot = newRoot == null ? pairs : link(newRoot,pairs);
+			pairs = next;
+		}
+		root = newRoot;
+		size--;
+		return item;
+	}
+	/**
+	 * A method to link two heaps, the one with the larger root becomes the first child of the other
+	 * @param Node<T> a, Node<T> b The roots of the two heaps, neither has siblings
+	 * @return Node<T> The root of the linked heap
+	 */
+	private Node<T> link(Node<T> a, Node<T> b){
+		if(b.value.compareTo(a.value) < 0){
+			Node<T> swap = a;
+			a = b;
+			b = swap;
+		}
+		b.sibling = a.child;
+		a.child = b;
+		return a;
+	}
+	/**
+	 * A node of the heap, it points at its first child and at its next sibling
+	 */
+	private static class Node<T>{
+		private final T value;
+		private Node<T> child;
+		private Node<T> sibling;
+		/**
+		 * Constructor for a Node
+		 * @param T value The value of the node
+		 */
+		Node(T value){
+			this.value = value;
+		}
+	}
+}
@@ -0,0 +1,77 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+/**
+ * The operations a heap has to support to back an UnboundedPriorityQueue. MinHeap is the default
+ * implementation, the others trade generality for speed on particular workloads. The batch methods
+ * have default implementations that go one item at a time.
+ */
+public interface PriorityHeap<T>{
+	/**
+	 * A method to insert a value into the heap
+	 * @param T value The value you wish to insert
+	 */
+	void insert(T value);
+	/**
+	 * A method to delete the minimum value from the heap
+	 * @return T The value you just removed
+	 * @throws IllegalStateException() If the heap is empty
+	 */
+	T remove();
+	/**
+	 * A method to find the minimum value of the heap without removing it
+	 * @return T The minimum value of the heap, or null if it is empty
+	 */
+	T findMin();
+	/**
+	 * A method to determine if the heap is empty
+	 * @return boolean Represents if the heap is empty
+	 */
+	boolean isEmpty();
+	/**
+	 * A method to return the number of values in the heap
+	 * @return int The number of values in the heap
+	 */
+	int size();
+	/**
+	 * A method to insert every value of an array into the heap
+	 * @param T[] values The values you wish to insert
+	 */
+	default void insertAll(T[] values){
+		for(T value : values)
+			insert(value);
+	}
+	/**
+	 * A method to insert every value of a collection into the heap
+	 * @param Collection<? extends T> values The values you wish to insert
+	 */
+	default void insertAll(Collection<? extends T> values){
+		for(T value : values)
+			insert(value);
+	}
+	/**
+	 * A method to remove up to maxN of the smallest values, in order, into a collection
+	 * @param Collection<? super T> sink, int maxN Where the values go and the most to remove
+	 * @return int The number of values removed
+	 * @throws IllegalArgumentException() if maxN is negative
+	 */
+	default int drainTo(Collection<? super T> sink, int maxN){
+		if(maxN < 0)
+			throw new IllegalArgumentException("maxN can not be negative");
+		int count = 0;
+		for(;count < maxN && !isEmpty();count++)
+			sink.add(remove());
+		return count;
+	}
+	/**
+	 * A method to remove the k smallest values of the heap
+	 * @param int k The number of values to remove
+	 * @return List<T> The values removed in order, fewer than k if the heap runs out
+	 * @throws IllegalArgumentException() if k is negative
+	 */
+	default List<T> removeN(int k){
+		List<T> items = new ArrayList<T>(Math.max(0,Math.min(k,size())));
+		drainTo(items,k);
+		return items;
+	}
+}
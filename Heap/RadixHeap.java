@@ -0,0 +1,170 @@
+import java.util.Arrays;
+import java.util.function.ToLongFunction;
+/**
+ * An implementation of a radix heap for monotone priorities, where a value is never inserted with
+ * a key smaller than the last key removed. This is the case for event simulations and Dijkstra
+ * style searches. Items are kept in 65 buckets by the highest bit in which their key differs from
+ * the last key removed, so insert is O(1) and remove is amortized O(log C) where C is the range
+ * of the keys, with no comparisons between items at all.
+ */
+public class RadixHeap<T> implements PriorityHeap<T>{
+	/**
+	 * The members of the RadixHeap class are the buckets of keys and items, the number of items in
+	 * each bucket, a mask of the buckets that are not empty, the last key removed, the size and the
+	 * function that makes the key of an item. Bucket 0 holds the items whose key equals the last
+	 * key removed and bucket b holds those that first differ from it at bit b - 1, which is also
+	 * the bit of bucket b in the mask.
+	 */
+	private static final int BUCKETS = 65;
+	private static final int DEFAULT_BUCKET_SIZE = 4;
+	private final long[][] keys = new long[BUCKETS][];
+	private final Object[][] items = new Object[BUCKETS][];
+	private final int[] counts = new int[BUCKETS];
+	private long occupied;
+	private long last = Long.MIN_VALUE;
+	private int size;
+	private final ToLongFunction<? super T> keyFunction;
+	/**
+	 * Constructor for the RadixHeap
+	 * @param ToLongFunction<? super T> keyFunction The function that makes the key of an item
+	 */
+	public RadixHeap(ToLongFunction<? super T> keyFunction){
+		if(keyFunction == null)
+			throw new IllegalArgumentException("The key function can not be null");
+		this.keyFunction = keyFunction;
+		for(int b = 0;b < BUCKETS;b++){
+			keys[b] = new long[DEFAULT_BUCKET_SIZE];
+			items[b] = new Object[DEFAULT_BUCKET_SIZE];
+		}
+	}
+	/**
+	 * A method to determine if the heap is empty
+	 * @return boolean Represents if the heap is empty
+	 */
+	public boolean isEmpty(){
+		return size == 0;
+	}
+	/**
+	 * A method to return the number of items in the heap
+	 * @return int The number of items in the heap
+	 */
+	public int size(){
+		return size;
+	}
+	/**
+	 * A method to get the last key removed, no key smaller than it can be inserted
+	 * @return long The last key removed, Long.MIN_VALUE before the first remove
+	 */
+	public long lastKey(){
+		return last;
+	}
+	/**
+	 * A method to find the bucket a key belongs in
+	 * @param long key The key of an item
+	 * @return int The bucket of the key
+	 */
+	private int bucket(long key){
+		/* the highest bit where the key and the last key differ, 0 if they are equal */
+		return 64 - Long.numberOfLeadingZeros(key ^ last);
+	}
+	/**
+	 * A method to insert an item into the heap
+	 * @param T value The item you wish to insert
+	 * @throws IllegalArgumentException() if its key is smaller than the last key removed
+	 */
+	public void insert(T value){
+		long key = keyFunction.applyAsLong(value);
+		if(key < last)
+			throw new IllegalArgumentException("The key " + key + " is smaller than the last key removed " + last);
+		push(bucket(key),key,value);
+		size++;
+	}
+	/**
+	 * A method to add an item to the end of a bucket
+	 * @param int b, long key, Object value The bucket, the key and the item
+	 */
+	private void push(int b, long key, Object value){
+		int count = counts[b];
+		if(count == keys[b].length){
+			keys[b] = Arrays.copyOf(keys[b],count * 2);
+			items[b] = Arrays.copyOf(items[b],count * 2);
+		}
+		keys[b][count] = key;
+		items[b][count] = value;
+		counts[b] = count + 1;
+		if(b > 0)
+			occupied |= 1L << (b - 1);
+	}
+	/**
+	 * A method to find the first bucket that is not empty
+	 * @return int The lowest bucket with an item in it
+	 */
+	private int firstBucket(){
+		/* bucket 0 is not in the mask so check it first */
+		if(counts[0] > 0)
+			return 0;
+		return Long.numberOfTrailingZeros(occupied) + 1;
+	}
+	/**
+	 * A method to find the minimum item of the heap without removing it
+	 * @return T The minimum item of the heap, or null if it is empty
+	 */
+	@SuppressWarnings("unchecked")
+	public T findMin(){
+		if(isEmpty())
+			return null;
+		int b = firstBucket();
+		return (T) items[b][minIndex(b)];
+	}
+	/**
+	 * A method to find the index of the smallest key in a bucket
+	 * @param int b The bucket to search
+	 * @return int The index of its smallest key
+	 */
+	private int minIndex(int b){
+		long[] bucketKeys = keys[b];
+		int min = 0;
+		for(int i = 1;i < counts[b];i++)
+			if(bucketKeys[i] < bucketKeys[min])
+				min = i;
+		return min;
+	}
+	/**
+	 * A method to delete the minimum item from the heap
+	 * @return T The item you just removed
+	 * @throws IllegalStateException() If the heap is empty
+	 */
+	@SuppressWarnings("unchecked")
+	public T remove(){
+		if(isEmpty())
+			throw new IllegalStateException();
+		if(counts[0] == 0){
+			/* the smallest key of the first bucket becomes the last key, then every item of that
+			 * bucket moves to a lower bucket since they all agree with it above bit b - 1 */
+			int b = firstBucket();
+			long[] bucketKeys = keys[b];
+			Object[] bucketItems = items[b];
+			int count = counts[b];
+			last = bucketKeys[minIndex(b)];
+			counts[b] = 0;
+			clear(b);
+			for(int i = 0;i < count;i++){
+				push(bucket(bucketKeys[i]),bucketKeys[i],bucketItems[i]);
+				bucketItems[i] = null;
+			}
+		}
+		/* every item in bucket 0 has the last key so take the one at the end */
+		int count = --counts[0];
+		T item = (T) items[0][count];
+		items[0][count] = null;
+		size--;
+		return item;
+	}
+	/**
+	 * A method to mark a bucket other than bucket 0 as empty in the mask
+	 * @param int b The bucket that is now empty
+	 */
+	private void clear(int b){
+		occupied &= ~(1L << (b - 1));
+	}
+}
@@ -0,0 +1,51 @@
+import java.nio.ByteBuffer;
+/**
+ * A way to write values to and read them from a ByteBuffer as fixed-width records. It is used by
+ * the heaps that keep their values outside the Java heap.
+ */
+public interface RecordCodec<T>{
+	/**
+	 * A codec for Longs, each record is 8 bytes
+	 */
+	RecordCodec<Long> LONG = new RecordCodec<Long>(){
+		public int recordSize(){
+			return Long.BYTES;
+		}
+		public void write(Long value, ByteBuffer buffer){
+			buffer.putLong(value);
+		}
+		public Long read(ByteBuffer buffer){
+			return buffer.getLong();
+		}
+	};
+	/**
+	 * A codec for Integers, each record is 4 bytes
+	 */
+	RecordCodec<Integer> INTEGER = new RecordCodec<Integer>(){
+		public int recordSize(){
+			return Integer.BYTES;
+		}
+		public void write(Integer value, ByteBuffer buffer){
+			buffer.putInt(value);
+		}
+		public Integer read(ByteBuffer buffer){
+			return buffer.getInt();
+		}
+	};
+	/**
+	 * A method to get the number of bytes of every record
+	 * @return int The size of a record in bytes
+	 */
+	int recordSize();
+	/**
+	 * A method to write a value at the buffer's position, moving it forward by recordSize bytes
+	 * @param T value, ByteBuffer buffer The value to write and the buffer to write it into
+	 */
+	void write(T value, ByteBuffer buffer);
+	/**
+	 * A method to read a value at the buffer's position, moving it forward by recordSize bytes
+	 * @param ByteBuffer buffer The buffer to read from
+	 * @return T The value read
+	 */
+	T read(ByteBuffer buffer);
+}
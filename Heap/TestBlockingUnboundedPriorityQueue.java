@@ -0,0 +1,174 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+/**
+ * This class will test the BlockingUnboundedPriorityQueue. The single threaded tests check the
+ * ordering and the timeouts, the multi threaded ones check that waiting threads are woken and that
+ * nothing is lost or duplicated.
+ */
+public class TestBlockingUnboundedPriorityQueue{
+	/**
+	 * Queue test fixtures, one without a size limit and one with
+	 */
+	private BlockingUnboundedPriorityQueue<Integer> queue;
+	private BlockingUnboundedPriorityQueue<Integer> bounded;
+	private static final int THREADS = 4;
+	private static final int PER_THREAD = 5000;
+	/**
+	 * before every test, preform the following
+	 */
+	@Before
+	public void setup(){
+		queue = new BlockingUnboundedPriorityQueue<Integer>();
+		bounded = new BlockingUnboundedPriorityQueue<Integer>(2);
+	}
+	/**
+	 * Tests the constructors
+	 */
+	@Test
+	public void constructorTest(){
+		assertTrue(queue.isEmpty());
+		assertEquals(Integer.MAX_VALUE,queue.remainingCapacity());
+		assertEquals(2,bounded.remainingCapacity());
+		assertNull(queue.peek());
+		try{
+			new BlockingUnboundedPriorityQueue<Integer>(0);
+			fail("A capacity of zero should be rejected");
+		}catch(IllegalArgumentException e){
+		}
+	}
+	/**
+	 * Tests that values come out in order
+	 */
+	@Test
+	public void orderTest() throws InterruptedException{
+		for(int value = 100;value > 0;value--)
+			queue.put(value);
+		assertEquals(Integer.valueOf(1),queue.peek());
+		for(int value = 1;value <= 100;value++)
+			assertEquals(Integer.valueOf(value),queue.take());
+		assertNull(queue.poll());
+	}
+	/**
+	 * Tests that takeBatch hands back the smallest values in order
+	 */
+	@Test
+	public void takeBatchTest() throws InterruptedException{
+		for(int value = 10;value > 0;value--)
+			queue.put(value);
+		assertEquals(List.of(1,2,3,4),queue.takeBatch(4));
+		List<Integer> rest = new ArrayList<Integer>();
+		assertEquals(6,queue.drainTo(rest,100));
+		assertEquals(List.of(5,6,7,8,9,10),rest);
+	}
+	/**
+	 * Tests the timeouts and the size limit
+	 */
+	@Test
+	public void timeoutTest() throws InterruptedException{
+		assertNull(queue.poll(10,TimeUnit.MILLISECONDS));
+		assertTrue(bounded.offer(2));
+		assertTrue(bounded.offer(1,10,TimeUnit.MILLISECONDS));
+		assertFalse(bounded.offer(3));
+		assertFalse(bounded.offer(3,10,TimeUnit.MILLISECONDS));
+		assertEquals(0,bounded.remainingCapacity());
+		assertEquals(Integer.valueOf(1),bounded.poll(10,TimeUnit.MILLISECONDS));
+		assertTrue(bounded.offer(3));
+	}
+	/**
+	 * Tests that a waiting take is woken by a put and a waiting put by a take
+	 */
+	@Test(timeout = 10000)
+	public void wakeTest() throws InterruptedException{
+		ConcurrentLinkedQueue<Integer> taken = new ConcurrentLinkedQueue<Integer>();
+		Thread consumer = new Thread(() -> {
+			try{
+				taken.add(queue.take());
+			}catch(InterruptedException e){
+			}
+		});
+		consumer.start();
+		queue.put(7);
+		consumer.join();
+		assertEquals(Integer.valueOf(7),taken.poll());
+		bounded.put(1);
+		bounded.put(2);
+		AtomicBoolean put = new AtomicBoolean();
+		Thread producer = new Thread(() -> {
+			try{
+				bounded.put(3);
+				put.set(true);
+			}catch(InterruptedException e){
+			}
+		});
+		producer.start();
+		assertEquals(List.of(1,2),bounded.takeBatch(5));
+		producer.join();
+		assertTrue(put.get());
+		assertEquals(Integer.valueOf(3),bounded.take());
+	}
+	/**
+	 * Tests that interrupting a waiting take stops it
+	 */
+	@Test(timeout = 10000)
+	public void interruptTest() throws InterruptedException{
+		AtomicBoolean interrupted = new AtomicBoolean();
+		Thread consumer = new Thread(() -> {
+			try{
+				queue.take();
+			}catch(InterruptedException e){
+				interrupted.set(true);
+			}
+		});
+		consumer.start();
+		consumer.interrupt();
+		consumer.join();
+		assertTrue(interrupted.get());
+	}
+	/**
+	 * Tests that producers and batch consumers sharing a small bounded queue neither lose nor
+	 * duplicate values
+	 */
+	@Test(timeout = 30000)
+	public void producerConsumerTest() throws InterruptedException{
+		BlockingUnboundedPriorityQueue<Integer> shared = new BlockingUnboundedPriorityQueue<Integer>(16);
+		List<Thread> threads = new ArrayList<Thread>();
+		ConcurrentLinkedQueue<Integer> taken = new ConcurrentLinkedQueue<Integer>();
+		for(int t = 0;t < THREADS;t++){
+			final int base = t * PER_THREAD;
+			threads.add(new Thread(() -> {
+				try{
+					for(int i = 0;i < PER_THREAD;i++)
+						shared.put(base + i);
+				}catch(InterruptedException e){
+				}
+			}));
+			threads.add(new Thread(() -> {
+				try{
+					int count = 0;
+					while(count < PER_THREAD){
+						List<Integer> batch = shared.takeBatch(Math.min(8,PER_THREAD - count));
+						taken.addAll(batch);
+						count += batch.size();
+					}
+				}catch(InterruptedException e){
+				}
+			}));
+		}
+		for(Thread thread : threads)
+			thread.start();
+		for(Thread thread : threads)
+			thread.join();
+		assertTrue(shared.isEmpty());
+		boolean[] seen = new boolean[THREADS * PER_THREAD];
+		for(int value : taken){
+			assertFalse(seen[value]);
+			seen[value] = true;
+		}
+		assertEquals(THREADS * PER_THREAD,taken.size());
+	}
+}
@@ -0,0 +1,70 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+/**
+ * This class will test the CachedKeyMinHeap Class implementation
+ */
+public class TestCachedKeyMinHeap{
+	/**
+	 * CachedKeyMinHeap test fixture, strings ordered by their length and then alphabetically
+	 */
+	private CachedKeyMinHeap<String> heap;
+	private int[] keyCalls;
+	/**
+	 * Before every test, preform the following setup
+	 */
+	@Before
+	public void setup(){
+		keyCalls = new int[1];
+		heap = new CachedKeyMinHeap<String>(2,s -> {
+			keyCalls[0]++;
+			return s.length();
+		},Comparator.naturalOrder());
+	}
+	/**
+	 * Tests that items come out by key and then by the tie breaker
+	 */
+	@Test
+	public void orderTest(){
+		assertTrue(heap.isEmpty());
+		for(String s : new String[]{"pear","fig","apple","kiwi","banana","date"})
+			heap.insert(s);
+		assertEquals(6,heap.size());
+		assertEquals(3L,heap.findMinKey());
+		assertEquals("fig",heap.remove());
+		assertEquals("date",heap.remove());
+		assertEquals("kiwi",heap.remove());
+		assertEquals("pear",heap.remove());
+		assertEquals("apple",heap.remove());
+		assertEquals("banana",heap.remove());
+		assertTrue(heap.isEmpty());
+		/* the key was only computed once for each item */
+		assertEquals(6,keyCalls[0]);
+	}
+	/**
+	 * Tests a heap without a tie breaker against sorting by key
+	 */
+	@Test
+	public void randomTest(){
+		Random random = new Random(21);
+		CachedKeyMinHeap<long[]> pairs = new CachedKeyMinHeap<long[]>(p -> p[0]);
+		long[] expected = new long[2000];
+		for(int i = 0;i < expected.length;i++){
+			expected[i] = random.nextLong();
+			pairs.insert(new long[]{expected[i]});
+		}
+		Arrays.sort(expected);
+		for(long key : expected)
+			assertEquals(key,pairs.remove()[0]);
+		assertNull(pairs.findMin());
+	}
+	/**
+	 * Tests the exception of removing when the heap is empty
+	 */
+	@Test(expected=IllegalStateException.class)
+	public void removeTest(){
+		heap.remove(); //should raise exception
+	}
+}
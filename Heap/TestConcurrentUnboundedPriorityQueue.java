@@ -0,0 +1,136 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+/**
+ * This class will test the ConcurrentUnboundedPriorityQueue. The single threaded tests check the
+ * ordering of each mode, the multi threaded ones check that nothing is lost or duplicated.
+ */
+public class TestConcurrentUnboundedPriorityQueue{
+	/**
+	 * Queue test fixtures, one for each mode
+	 */
+	private ConcurrentUnboundedPriorityQueue<Integer> relaxed;
+	private ConcurrentUnboundedPriorityQueue<Integer> strict;
+	private static final int THREADS = 8;
+	private static final int PER_THREAD = 20000;
+	/**
+	 * before every test, preform the following
+	 */
+	@Before
+	public void setup(){
+		relaxed = new ConcurrentUnboundedPriorityQueue<Integer>(8,false);
+		strict = new ConcurrentUnboundedPriorityQueue<Integer>(8,true);
+	}
+	/**
+	 * Tests the constructors
+	 */
+	@Test
+	public void constructorTest(){
+		assertTrue(relaxed.isEmpty());
+		assertFalse(relaxed.isStrict());
+		assertTrue(strict.isStrict());
+		assertEquals(0,strict.size());
+	}
+	/**
+	 * Tests that strict mode always dequeues the exact minimum
+	 */
+	@Test
+	public void strictOrderTest(){
+		for(int value = 1000;value > 0;value--)
+			strict.enqueue(value);
+		assertEquals(1000,strict.size());
+		for(int value = 1;value <= 1000;value++)
+			assertEquals(Integer.valueOf(value),strict.dequeue());
+		assertTrue(strict.isEmpty());
+	}
+	/**
+	 * Tests that relaxed mode gives every value back exactly once
+	 */
+	@Test
+	public void relaxedDrainTest(){
+		for(int value = 0;value < 1000;value++)
+			relaxed.enqueue(value);
+		boolean[] seen = new boolean[1000];
+		for(int i = 0;i < 1000;i++){
+			int value = relaxed.dequeue();
+			assertFalse(seen[value]);
+			seen[value] = true;
+		}
+		assertTrue(relaxed.isEmpty());
+	}
+	/**
+	 * Tests that relaxed mode finds a lone value whichever shard it is in rather than reporting
+	 * the queue empty
+	 */
+	@Test
+	public void relaxedLoneValueTest(){
+		for(int value = 0;value < 1000;value++){
+			relaxed.enqueue(value);
+			assertEquals(Integer.valueOf(value),relaxed.dequeue());
+		}
+		assertTrue(relaxed.isEmpty());
+	}
+	/**
+	 * Tests that concurrent producers and consumers neither lose nor duplicate values in either
+	 * mode
+	 */
+	@Test
+	public void concurrentTest() throws InterruptedException{
+		concurrentRun(relaxed);
+		concurrentRun(strict);
+	}
+	/**
+	 * A helper that runs producers and consumers against a queue and checks every value came out
+	 * once
+	 * @param ConcurrentUnboundedPriorityQueue<Integer> queue The queue to hammer
+	 */
+	private void concurrentRun(final ConcurrentUnboundedPriorityQueue<Integer> queue) throws InterruptedException{
+		final ConcurrentLinkedQueue<Integer> out = new ConcurrentLinkedQueue<Integer>();
+		final CountDownLatch start = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<Thread>();
+		for(int t = 0;t < THREADS;t++){
+			final int base = t * PER_THREAD;
+			threads.add(new Thread(() -> {
+				try{
+					start.await();
+				}catch(InterruptedException e){
+					return;
+				}
+				/* every thread enqueues its own range and dequeues as many values as it put in */
+				for(int i = 0;i < PER_THREAD;i++){
+					queue.enqueue(base + i);
+					out.add(queue.dequeue());
+				}
+			}));
+		}
+		for(Thread thread : threads)
+			thread.start();
+		start.countDown();
+		for(Thread thread : threads)
+			thread.join();
+		assertTrue(queue.isEmpty());
+		boolean[] seen = new boolean[THREADS * PER_THREAD];
+		for(int value : out){
+			assertFalse(seen[value]);
+			seen[value] = true;
+		}
+		assertEquals(THREADS * PER_THREAD,out.size());
+	}
+	/**
+	 * Makes sure an exception is thrown when dequeuing from an empty queue in either mode
+	 */
+	@Test(expected=IllegalStateException.class)
+	public void removeTest(){
+		relaxed.dequeue(); //should throw exception
+	}
+	/**
+	 * Makes sure an exception is thrown when dequeuing from an empty strict queue
+	 */
+	@Test(expected=IllegalStateException.class)
+	public void strictRemoveTest(){
+		strict.dequeue(); //should throw exception
+	}
+}
@@ -0,0 +1,149 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+/**
+ * This class will test the ExternalPriorityQueue with a memory limit small enough that most of
+ * the values end up in run files
+ */
+public class TestExternalPriorityQueue{
+	/**
+	 * Queue test fixture, at most 100 values in memory and at most 4 runs
+	 */
+	private Path directory;
+	private ExternalPriorityQueue<Long> queue;
+	/**
+	 * Before every test, preform the following setup
+	 */
+	@Before
+	public void setup() throws Exception{
+		directory = Files.createTempDirectory("test-runs");
+		/* a 64 byte buffer holds 8 longs so the runs are refilled often */
+		queue = new ExternalPriorityQueue<Long>(100,RecordCodec.LONG,directory,4,64);
+	}
+	/**
+	 * After every test, delete the run files
+	 */
+	@After
+	public void cleanup() throws Exception{
+		queue.close();
+		Files.deleteIfExists(directory);
+	}
+	/**
+	 * Tests that values spill to disk and still come back in order
+	 */
+	@Test
+	public void spillTest(){
+		Random random = new Random(53);
+		long[] values = new long[10000];
+		for(int i = 0;i < values.length;i++){
+			values[i] = random.nextLong();
+			queue.enqueue(values[i]);
+		}
+		assertEquals(values.length,queue.size());
+		/* there are far more values than the limit but never more than 4 runs */
+		assertTrue(queue.runCount() > 0);
+		assertTrue(queue.runCount() <= 4);
+		Arrays.sort(values);
+		assertEquals(Long.valueOf(values[0]),queue.peek());
+		for(long value : values)
+			assertEquals(Long.valueOf(value),queue.dequeue());
+		assertTrue(queue.isEmpty());
+		assertEquals(0,queue.runCount());
+	}
+	/**
+	 * Tests enqueues and dequeues mixed together, where new values are smaller than ones on disk
+	 */
+	@Test
+	public void mixedTest(){
+		Random random = new Random(59);
+		MinHeap<Long> reference = new MinHeap<Long>();
+		for(int i = 0;i < 20000;i++){
+			if(random.nextInt(3) == 0 && !reference.isEmpty())
+				assertEquals(reference.remove(),queue.dequeue());
+			else{
+				long value = random.nextInt(100000);
+				reference.insert(value);
+				queue.enqueue(value);
+			}
+		}
+		while(!reference.isEmpty())
+			assertEquals(reference.remove(),queue.dequeue());
+		assertTrue(queue.isEmpty());
+	}
+	/**
+	 * Tests that closing the queue deletes its run files
+	 */
+	@Test
+	public void closeTest() throws Exception{
+		for(long i = 0;i < 1000;i++)
+			queue.enqueue(i);
+		assertTrue(fileCount() > 0);
+		queue.close();
+		assertEquals(0,fileCount());
+		assertTrue(queue.isEmpty());
+	}
+	/**
+	 * Tests that the runs stay bounded through many merges and that the queue still drains in
+	 * order after them
+	 */
+	@Test
+	public void compactTest(){
+		for(long i = 100000;i > 0;i--){
+			queue.enqueue(i);
+			assertTrue(queue.runCount() <= 4);
+		}
+		for(long i = 1;i <= 100000;i++)
+			assertEquals(Long.valueOf(i),queue.dequeue());
+		assertEquals(0,queue.runCount());
+	}
+	/**
+	 * Tests that a dequeue whose run can not be read leaves the size alone
+	 */
+	@Test
+	public void readFailureTest() throws Exception{
+		for(long i = 0;i < 1000;i++)
+			queue.enqueue(i);
+		/* empty every run file so the next refill of a buffer finds the file ended early */
+		try(Stream<Path> files = Files.list(directory)){
+			for(Path file : (Iterable<Path>) files::iterator)
+				Files.write(file,new byte[0]);
+		}
+		long dequeued = 0;
+		try{
+			for(;;){
+				queue.dequeue();
+				dequeued++;
+			}
+		}catch(UncheckedIOException e){
+			assertEquals(1000 - dequeued,queue.size());
+		}
+		/* the run is still unreadable, so the next dequeue fails the same way */
+		try{
+			queue.dequeue();
+			fail("read a run that was emptied");
+		}catch(UncheckedIOException e){
+			assertEquals(1000 - dequeued,queue.size());
+		}
+	}
+	/**
+	 * Makes sure an exception is thrown when dequeuing from an empty queue
+	 */
+	@Test(expected=IllegalStateException.class)
+	public void removeTest(){
+		queue.dequeue(); //should throw exception
+	}
+	/**
+	 * A helper to count the files in the run directory
+	 * @return long The number of files
+	 */
+	private long fileCount() throws Exception{
+		try(Stream<Path> files = Files.list(directory)){
+			return files.count();
+		}
+	}
+}
@@ -0,0 +1,95 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+/**
+ * This class will test the FlatCombiningMinHeap. The single threaded tests check the ordering,
+ * the multi threaded ones check that nothing is lost or duplicated while threads combine for each
+ * other.
+ */
+public class TestFlatCombiningMinHeap{
+	/**
+	 * FlatCombiningMinHeap test fixture
+	 */
+	private FlatCombiningMinHeap<Integer> heap;
+	private static final int THREADS = 8;
+	private static final int PER_THREAD = 20000;
+	/**
+	 * before every test, preform the following
+	 */
+	@Before
+	public void setup(){
+		heap = new FlatCombiningMinHeap<Integer>();
+	}
+	/**
+	 * Tests that values come out in order
+	 */
+	@Test
+	public void orderTest(){
+		assertTrue(heap.isEmpty());
+		for(int value = 1000;value > 0;value--)
+			heap.insert(value);
+		assertEquals(1000,heap.size());
+		for(int value = 1;value <= 1000;value++)
+			assertEquals(Integer.valueOf(value),heap.remove());
+		assertTrue(heap.isEmpty());
+	}
+	/**
+	 * Tests wrapping a heap that already holds values
+	 */
+	@Test
+	public void wrapTest(){
+		heap = new FlatCombiningMinHeap<Integer>(new MinHeap<Integer>(new Integer[]{5,2,8}));
+		assertEquals(3,heap.size());
+		heap.insert(1);
+		assertEquals(Integer.valueOf(1),heap.remove());
+		assertEquals(Integer.valueOf(2),heap.remove());
+	}
+	/**
+	 * Tests removing from an empty heap
+	 */
+	@Test(expected=IllegalStateException.class)
+	public void removeTest(){
+		heap.remove(); //should raise exception
+	}
+	/**
+	 * Tests that threads inserting and removing at once neither lose nor duplicate values, and
+	 * that what is left comes out in order
+	 */
+	@Test(timeout = 60000)
+	public void concurrentTest() throws InterruptedException{
+		ConcurrentLinkedQueue<Integer> taken = new ConcurrentLinkedQueue<Integer>();
+		List<Thread> threads = new ArrayList<Thread>();
+		for(int t = 0;t < THREADS;t++){
+			final int base = t * PER_THREAD;
+			threads.add(new Thread(() -> {
+				for(int i = 0;i < PER_THREAD;i++){
+					heap.insert(base + i);
+					/* every other step also remove, which always finds a value since this
+					 * thread inserted more than it removed */
+					if((i & 1) == 1)
+						taken.add(heap.remove());
+				}
+			}));
+		}
+		for(Thread thread : threads)
+			thread.start();
+		for(Thread thread : threads)
+			thread.join();
+		assertEquals(THREADS * PER_THREAD / 2,heap.size());
+		int last = Integer.MIN_VALUE;
+		while(!heap.isEmpty()){
+			int value = heap.remove();
+			assertTrue(value > last);
+			last = value;
+			taken.add(value);
+		}
+		boolean[] seen = new boolean[THREADS * PER_THREAD];
+		for(int value : taken){
+			assertFalse(seen[value]);
+			seen[value] = true;
+		}
+		assertEquals(THREADS * PER_THREAD,taken.size());
+	}
+}
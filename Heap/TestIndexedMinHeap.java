@@ -0,0 +1,130 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+import java.util.Arrays;
+import java.util.Random;
+/**
+ * This class will test the IndexedMinHeap Class implementation, mostly the handle based methods
+ * since insert and remove follow the MinHeap ones.
+ */
+public class TestIndexedMinHeap{
+	/**
+	 * IndexedMinHeap test fixture
+	 */
+	private IndexedMinHeap<Integer> heap;
+	/**
+	 * Before every test, preform the following setup
+	 */
+	@Before
+	public void setup(){
+		heap = new IndexedMinHeap<Integer>(2);
+	}
+	/**
+	 * Tests that insert and remove keep the same order as MinHeap
+	 */
+	@Test
+	public void insertRemoveTest(){
+		assertTrue(heap.isEmpty());
+		int[] values = new int[]{1,4,8,9,15,20,12,34};
+		for(int value : values)
+			heap.insert(value);
+		assertEquals("1 4 8 9 15 20 12 34",heap.toString());
+		assertEquals(Integer.valueOf(1),heap.remove());
+		assertEquals("4 9 8 34 15 20 12",heap.toString());
+		assertEquals(7,heap.size());
+	}
+	/**
+	 * Tests decreaseKey moves a value to the root and increaseKey moves it back down
+	 */
+	@Test
+	public void changeKeyTest(){
+		heap.insert(5);
+		int ten = heap.insert(10);
+		heap.insert(7);
+		int twenty = heap.insert(20);
+		heap.decreaseKey(twenty,1);
+		assertEquals(twenty,heap.findMinHandle());
+		assertEquals(Integer.valueOf(1),heap.findMin());
+		heap.increaseKey(twenty,30);
+		assertEquals(Integer.valueOf(30),heap.get(twenty));
+		heap.update(ten,2);
+		assertEquals(ten,heap.findMinHandle());
+		assertEquals(Integer.valueOf(2),heap.remove());
+		assertEquals(Integer.valueOf(5),heap.remove());
+		assertEquals(Integer.valueOf(7),heap.remove());
+		assertEquals(Integer.valueOf(30),heap.remove());
+		assertTrue(heap.isEmpty());
+	}
+	/**
+	 * Tests removing by handle from the middle of the heap and that the handle is then gone
+	 */
+	@Test
+	public void removeHandleTest(){
+		int[] handles = new int[10];
+		for(int i = 0;i < 10;i++)
+			handles[i] = heap.insert(i * 10);
+		assertEquals(Integer.valueOf(50),heap.remove(handles[5]));
+		assertFalse(heap.contains(handles[5]));
+		assertTrue(heap.contains(handles[6]));
+		for(int i = 0;i < 10;i++)
+			if(i != 5)
+				assertEquals(Integer.valueOf(i * 10),heap.remove());
+		assertTrue(heap.isEmpty());
+	}
+	/**
+	 * Tests a random mix of every operation against a plain array of the expected values
+	 */
+	@Test
+	public void randomTest(){
+		Random random = new Random(3);
+		int[] handles = new int[2000];
+		Integer[] expected = new Integer[2000];
+		for(int i = 0;i < handles.length;i++){
+			expected[i] = random.nextInt(100000);
+			handles[i] = heap.insert(expected[i]);
+		}
+		for(int i = 0;i < 5000;i++){
+			int pick = random.nextInt(handles.length);
+			if(expected[pick] == null)
+				continue;
+			int value = random.nextInt(100000);
+			switch(random.nextInt(3)){
+				case 0:
+					/* only some of these are real decreases, the rest must be rejected */
+					try{
+						heap.decreaseKey(handles[pick],value);
+						expected[pick] = value;
+					}catch(IllegalArgumentException e){
+						assertTrue(value > expected[pick]);
+					}
+					break;
+				case 1:
+					heap.update(handles[pick],value);
+					expected[pick] = value;
+					break;
+				default:
+					assertEquals(expected[pick],heap.remove(handles[pick]));
+					expected[pick] = null;
+			}
+		}
+		Integer[] remaining = Arrays.stream(expected).filter(v -> v != null).sorted().toArray(Integer[]::new);
+		for(Integer value : remaining)
+			assertEquals(value,heap.remove());
+		assertTrue(heap.isEmpty());
+	}
+	/**
+	 * Tests the handles of removed values are rejected
+	 */
+	@Test(expected=IllegalArgumentException.class)
+	public void staleHandleTest(){
+		int handle = heap.insert(1);
+		heap.remove();
+		heap.decreaseKey(handle,0); //should raise exception
+	}
+	/**
+	 * Tests the exception of removing when the heap is empty
+	 */
+	@Test(expected=IllegalStateException.class)
+	public void removeTest2(){
+		heap.remove(); //should raise exception
+	}
+}
@@ -0,0 +1,90 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+import java.util.Arrays;
+import java.util.Random;
+/**
+ * This class will test the IntMinHeap Class implementation. It mirrors the MinHeap tests so the
+ * two heaps are known to keep the same order.
+ */
+public class TestIntMinHeap{
+	/**
+	 * IntMinHeap test fixture
+	 */
+	private IntMinHeap heap;
+	private int[] array = new int[]{1,2,4,5,6,7,8};
+	private int[] array2 = new int[]{5,2,8,4,1,6,7};
+	/**
+	 * Before every test, preform the following setup
+	 */
+	@Before
+	public void setup(){
+		heap = new IntMinHeap();
+	}
+	/**
+	 * Tests the constructors for the IntMinHeap and ensures they are in order if you pass an array
+	 */
+	@Test
+	public void constructorTest(){
+		/* with no argument, the heap should be empty */
+		assertTrue(this.heap.isEmpty());
+		/* the same layout the MinHeap builds from these arrays */
+		assertEquals("1 2 4 5 6 7 8",new IntMinHeap(array).toString());
+		assertEquals("1 2 6 4 5 8 7",new IntMinHeap(array2).toString());
+	}
+	/**
+	 * Tests the insert method of IntMinHeap
+	 */
+	@Test
+	public void insertTest(){
+		heap.insert(20);
+		/* it should not be empty now */
+		assertFalse(heap.isEmpty());
+		/*five should now be above twenty in the heap */
+		heap.insert(5);
+		assertEquals("5 20",heap.toString());
+		heap.insert(1);
+		heap.insert(6);
+		assertEquals("1 6 5 20",heap.toString());
+		assertEquals(4,heap.size());
+	}
+	/**
+	 * Tests the remove method of the IntMinHeap and by extension the moveValueDown method
+	 */
+	@Test
+	public void removeTest(){
+		int[] values = new int[]{1,4,8,9,15,20,12,34};
+		for(int value : values)
+			heap.insert(value);
+		heap.remove();
+		assertEquals("4 9 8 34 15 20 12",heap.toString());
+		heap.remove();
+		assertEquals("8 9 12 34 15 20",heap.toString());
+		while(!heap.isEmpty())
+			heap.remove();
+		/* with all removed, the heap should now be empty */
+		assertTrue(heap.isEmpty());
+	}
+	/**
+	 * Tests that values come out sorted past the initial capacity, including negative values
+	 */
+	@Test
+	public void sortedOrderTest(){
+		Random random = new Random(7);
+		int[] values = new int[1000];
+		for(int i = 0;i < values.length;i++){
+			values[i] = random.nextInt();
+			heap.insert(values[i]);
+		}
+		Arrays.sort(values);
+		for(int value : values)
+			assertEquals(value,heap.remove());
+		assertTrue(heap.isEmpty());
+	}
+	/**
+	 * Tests the exception of removing when the heap is empty
+	 */
+	@Test(expected=IllegalStateException.class)
+	public void removeTest2(){
+		heap.remove(); //should raise exception
+	}
+}
@@ -0,0 +1,45 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+/**
+ * This class will test the IntUnboundedPriorityQueue, focusing mostly on the limitless
+ * property. This is because the test for IntMinHeap tested most of the class already.
+ */
+public class TestIntUnboundedPriorityQueue{
+	/**
+	 * Queue test fixture
+	 */
+	private IntUnboundedPriorityQueue queue;
+	private int i = 2;
+	/**
+	 * before every test, preform the following
+	 */
+	@Before
+	public void setup(){
+		/* this queue will have size of 2 so we can test if we can insert beyond that */
+		queue = new IntUnboundedPriorityQueue(i);
+	}
+	/**
+	 * Test the unbounded property of the queue and that it dequeues in order
+	 */
+	@Test
+	public void sizeTest(){
+		this.queue.enqueue(3);
+		this.queue.enqueue(1);
+		/* if the queue works, it should increase the size of this now */
+		this.queue.enqueue(4);
+		this.queue.enqueue(2);
+		assertEquals(1,this.queue.dequeue());
+		assertEquals(2,this.queue.dequeue());
+		assertEquals(3,this.queue.dequeue());
+		assertEquals(4,this.queue.dequeue());
+		/* should be empty now */
+		assertTrue(this.queue.isEmpty());
+	}
+	/**
+	 * Makes sure an exception is thrown
+	 */
+	@Test(expected=IllegalStateException.class)
+	public void removeTest(){
+		this.queue.dequeue(); //should throw exception
+	}
+}
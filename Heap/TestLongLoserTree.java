@@ -0,0 +1,45 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+/**
+ * This class will test the LongLoserTree merge
+ */
+public class TestLongLoserTree{
+	/**
+	 * Tests random merges of every number of inputs from 1 to 40 against sorting
+	 */
+	@Test
+	public void randomTest(){
+		Random random = new Random(67);
+		for(int k = 1;k <= 40;k++){
+			List<PrimitiveIterator.OfLong> inputs = new ArrayList<PrimitiveIterator.OfLong>();
+			long[] all = new long[0];
+			for(int i = 0;i < k;i++){
+				long[] run = random.longs(random.nextInt(50)).toArray();
+				Arrays.sort(run);
+				inputs.add(Arrays.stream(run).iterator());
+				long[] grown = Arrays.copyOf(all,all.length + run.length);
+				System.arraycopy(run,0,grown,all.length,run.length);
+				all = grown;
+			}
+			Arrays.sort(all);
+			long[] out = new long[all.length];
+			int[] count = new int[1];
+			LongLoserTree tree = new LongLoserTree(inputs);
+			assertEquals(all.length,tree.drainTo(v -> out[count[0]++] = v));
+			assertArrayEquals(all,out);
+			assertFalse(tree.hasNext());
+		}
+	}
+	/**
+	 * Makes sure there has to be an input
+	 */
+	@Test(expected=IllegalArgumentException.class)
+	public void constructorTest(){
+		new LongLoserTree(new ArrayList<PrimitiveIterator.OfLong>()); //should throw exception
+	}
+}
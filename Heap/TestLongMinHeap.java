@@ -0,0 +1,154 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+/**
+ * This class will test the LongMinHeap Class implementation. It mirrors the MinHeap tests so the
+ * two heaps are known to keep the same order.
+ */
+public class TestLongMinHeap{
+	/**
+	 * LongMinHeap test fixture
+	 */
+	private LongMinHeap heap;
+	private long[] array = new long[]{1,2,4,5,6,7,8};
+	private long[] array2 = new long[]{5,2,8,4,1,6,7};
+	/**
+	 * Before every test, preform the following setup
+	 */
+	@Before
+	public void setup(){
+		heap = new LongMinHeap();
+	}
+	/**
+	 * Tests the constructors for the LongMinHeap and ensures they are in order if you pass an array
+	 */
+	@Test
+	public void constructorTest(){
+		/* with no argument, the heap should be empty */
+		assertTrue(this.heap.isEmpty());
+		/* the same layout the MinHeap builds from these arrays */
+		assertEquals("1 2 4 5 6 7 8",new LongMinHeap(array).toString());
+		assertEquals("1 2 6 4 5 8 7",new LongMinHeap(array2).toString());
+	}
+	/**
+	 * Tests the insert method of LongMinHeap
+	 */
+	@Test
+	public void insertTest(){
+		heap.insert(20);
+		/* it should not be empty now */
+		assertFalse(heap.isEmpty());
+		/*five should now be above twenty in the heap */
+		heap.insert(5);
+		assertEquals("5 20",heap.toString());
+		heap.insert(1);
+		heap.insert(6);
+		assertEquals("1 6 5 20",heap.toString());
+		assertEquals(4,heap.size());
+	}
+	/**
+	 * Tests the remove method of the LongMinHeap and by extension the moveValueDown method
+	 */
+	@Test
+	public void removeTest(){
+		long[] values = new long[]{1,4,8,9,15,20,12,34};
+		for(long value : values)
+			heap.insert(value);
+		heap.remove();
+		assertEquals("4 9 8 34 15 20 12",heap.toString());
+		heap.remove();
+		assertEquals("8 9 12 34 15 20",heap.toString());
+		while(!heap.isEmpty())
+			heap.remove();
+		/* with all removed, the heap should now be empty */
+		assertTrue(heap.isEmpty());
+	}
+	/**
+	 * Tests that values come out sorted past the initial capacity, including negative values
+	 */
+	@Test
+	public void sortedOrderTest(){
+		Random random = new Random(7);
+		long[] values = new long[1000];
+		for(int i = 0;i < values.length;i++){
+			values[i] = random.nextLong();
+			heap.insert(values[i]);
+		}
+		Arrays.sort(values);
+		for(long value : values)
+			assertEquals(value,heap.remove());
+		assertTrue(heap.isEmpty());
+	}
+	/**
+	 * Tests the exception of removing when the heap is empty
+	 */
+	@Test(expected=IllegalStateException.class)
+	public void removeTest2(){
+		heap.remove(); //should raise exception
+	}
+	/**
+	 * Tests that a snapshot restores the same heap, which keeps working afterwards
+	 */
+	@Test
+	public void snapshotTest() throws Exception{
+		Path file = Files.createTempFile("heap",".snapshot");
+		try{
+			Random random = new Random(18);
+			long[] values = new long[300000];
+			for(int i = 0;i < values.length;i++)
+				values[i] = random.nextLong();
+			heap = new LongMinHeap(values);
+			heap.writeSnapshot(file);
+			LongMinHeap restored = LongMinHeap.readSnapshot(file);
+			assertEquals(heap.toString(),restored.toString());
+			restored.insert(Long.MIN_VALUE);
+			assertEquals(Long.MIN_VALUE,restored.remove());
+			Arrays.sort(values);
+			for(long value : values)
+				assertEquals(value,restored.remove());
+			/* an empty heap round trips too */
+			restored.writeSnapshot(file);
+			assertTrue(LongMinHeap.readSnapshot(file).isEmpty());
+		}finally{
+			Files.deleteIfExists(file);
+		}
+	}
+	/**
+	 * Tests that a snapshot with a changed value is caught by the checksum
+	 */
+	@Test(expected=UncheckedIOException.class)
+	public void snapshotTest2() throws Exception{
+		Path file = Files.createTempFile("heap",".snapshot");
+		try{
+			new LongMinHeap(new long[]{5,2,8,4,1,6,7}).writeSnapshot(file);
+			byte[] bytes = Files.readAllBytes(file);
+			bytes[bytes.length - 1] ^= 1;
+			Files.write(file,bytes);
+			LongMinHeap.readSnapshot(file); //should raise exception
+		}finally{
+			Files.deleteIfExists(file);
+		}
+	}
+	/**
+	 * Tests that a snapshot cut short by a torn write is caught
+	 */
+	@Test(expected=UncheckedIOException.class)
+	public void snapshotTest3() throws Exception{
+		Path file = Files.createTempFile("heap",".snapshot");
+		try{
+			new LongMinHeap(new long[]{5,2,8,4,1,6,7}).writeSnapshot(file);
+			try(FileChannel channel = FileChannel.open(file,StandardOpenOption.WRITE)){
+				channel.truncate(channel.size() - 8);
+			}
+			LongMinHeap.readSnapshot(file); //should raise exception
+		}finally{
+			Files.deleteIfExists(file);
+		}
+	}
+}
@@ -0,0 +1,83 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+/**
+ * This class will test the LongTopKSelector class
+ */
+public class TestLongTopKSelector{
+	/**
+	 * LongTopKSelector test fixture
+	 */
+	private LongTopKSelector selector;
+	/**
+	 * Before every test, preform the following setup
+	 */
+	@Before
+	public void setup(){
+		selector = new LongTopKSelector(3);
+	}
+	/**
+	 * Tests that only the three largest values are kept and that small ones are rejected
+	 */
+	@Test
+	public void offerTest(){
+		selector.offerAll(new long[]{5,1,9});
+		assertEquals(1L,selector.threshold());
+		assertFalse(selector.offer(1));
+		assertTrue(selector.offer(7));
+		assertArrayEquals(new long[]{9,7,5},selector.drainSorted());
+		assertTrue(selector.isEmpty());
+	}
+	/**
+	 * Tests that merging per-thread selectors in parallel gives the same top k as sorting
+	 */
+	@Test
+	public void mergeAllTest(){
+		Random random = new Random(17);
+		List<LongTopKSelector> selectors = new ArrayList<LongTopKSelector>();
+		long[] all = new long[16 * 1000];
+		for(int s = 0;s < 16;s++){
+			LongTopKSelector part = new LongTopKSelector(50);
+			for(int i = 0;i < 1000;i++){
+				all[s * 1000 + i] = random.nextLong();
+				part.offer(all[s * 1000 + i]);
+			}
+			selectors.add(part);
+		}
+		Arrays.sort(all);
+		long[] expected = new long[50];
+		for(int i = 0;i < 50;i++)
+			expected[i] = all[all.length - 1 - i];
+		assertArrayEquals(expected,LongTopKSelector.mergeAll(selectors).drainSorted());
+	}
+	/**
+	 * Tests that selectors with a different k are not merged and are left untouched
+	 */
+	@Test
+	public void mergeDifferentKTest(){
+		LongTopKSelector other = new LongTopKSelector(5);
+		other.offer(1);
+		try{
+			selector.merge(other);
+			fail("merged selectors with different k");
+		}catch(IllegalArgumentException e){
+			assertEquals(1,other.size());
+		}
+		try{
+			LongTopKSelector.mergeAll(Arrays.asList(selector,other));
+			fail("merged selectors with different k");
+		}catch(IllegalArgumentException e){
+			assertEquals(1,other.size());
+		}
+	}
+	/**
+	 * Tests the threshold of an empty selector
+	 */
+	@Test(expected=IllegalStateException.class)
+	public void thresholdTest(){
+		selector.threshold(); //should raise exception
+	}
+}
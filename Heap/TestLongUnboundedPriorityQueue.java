@@ -0,0 +1,45 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+/**
+ * This class will test the LongUnboundedPriorityQueue, focusing mostly on the limitless
+ * property. This is because the test for LongMinHeap tested most of the class already.
+ */
+public class TestLongUnboundedPriorityQueue{
+	/**
+	 * Queue test fixture
+	 */
+	private LongUnboundedPriorityQueue queue;
+	private int i = 2;
+	/**
+	 * before every test, preform the following
+	 */
+	@Before
+	public void setup(){
+		/* this queue will have size of 2 so we can test if we can insert beyond that */
+		queue = new LongUnboundedPriorityQueue(i);
+	}
+	/**
+	 * Test the unbounded property of the queue and that it dequeues in order
+	 */
+	@Test
+	public void sizeTest(){
+		this.queue.enqueue(3L);
+		this.queue.enqueue(1L);
+		/* if the queue works, it should increase the size of this now */
+		this.queue.enqueue(4L);
+		this.queue.enqueue(2L);
+		assertEquals(1L,this.queue.dequeue());
+		assertEquals(2L,this.queue.dequeue());
+		assertEquals(3L,this.queue.dequeue());
+		assertEquals(4L,this.queue.dequeue());
+		/* should be empty now */
+		assertTrue(this.queue.isEmpty());
+	}
+	/**
+	 * Makes sure an exception is thrown
+	 */
+	@Test(expected=IllegalStateException.class)
+	public void removeTest(){
+		this.queue.dequeue(); //should throw exception
+	}
+}
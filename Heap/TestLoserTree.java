@@ -0,0 +1,83 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+/**
+ * This class will test the LoserTree merge
+ */
+public class TestLoserTree{
+	/**
+	 * Tests a small merge including an empty input
+	 */
+	@Test
+	public void mergeTest(){
+		List<Iterator<Integer>> inputs = new ArrayList<Iterator<Integer>>();
+		inputs.add(Arrays.asList(1,4,7).iterator());
+		inputs.add(Collections.<Integer>emptyIterator());
+		inputs.add(Arrays.asList(2,5,8,9).iterator());
+		inputs.add(Arrays.asList(3,6).iterator());
+		LoserTree<Integer> tree = new LoserTree<Integer>(inputs);
+		List<Integer> out = new ArrayList<Integer>();
+		assertEquals(9,tree.drainTo(out::add));
+		assertEquals(Arrays.asList(1,2,3,4,5,6,7,8,9),out);
+		assertFalse(tree.hasNext());
+	}
+	/**
+	 * Tests that equal values come out in the order of their inputs
+	 */
+	@Test
+	public void stableTest(){
+		/* three equal but different objects so we can tell which input each one came from */
+		String b0 = new String("b");
+		String b1 = new String("b");
+		String b2 = new String("b");
+		List<Iterator<String>> inputs = new ArrayList<Iterator<String>>();
+		inputs.add(Arrays.asList(b0,"c").iterator());
+		inputs.add(Arrays.asList("a",b1).iterator());
+		inputs.add(Arrays.asList(b2).iterator());
+		LoserTree<String> tree = new LoserTree<String>(inputs);
+		assertEquals("a",tree.next());
+		assertSame(b0,tree.next());
+		assertSame(b1,tree.next());
+		assertSame(b2,tree.next());
+		assertEquals("c",tree.next());
+		assertFalse(tree.hasNext());
+	}
+	/**
+	 * Tests random merges of every number of inputs from 1 to 40 against sorting
+	 */
+	@Test
+	public void randomTest(){
+		Random random = new Random(61);
+		for(int k = 1;k <= 40;k++){
+			List<Iterator<Integer>> inputs = new ArrayList<Iterator<Integer>>();
+			List<Integer> all = new ArrayList<Integer>();
+			for(int i = 0;i < k;i++){
+				List<Integer> run = new ArrayList<Integer>();
+				for(int j = random.nextInt(50);j > 0;j--)
+					run.add(random.nextInt(100));
+				Collections.sort(run);
+				all.addAll(run);
+				inputs.add(run.iterator());
+			}
+			Collections.sort(all);
+			List<Integer> out = new ArrayList<Integer>();
+			new LoserTree<Integer>(inputs).drainTo(out::add);
+			assertEquals(all,out);
+		}
+	}
+	/**
+	 * Makes sure an exception is thrown when the merge is finished
+	 */
+	@Test(expected=NoSuchElementException.class)
+	public void nextTest(){
+		List<Iterator<Integer>> inputs = new ArrayList<Iterator<Integer>>();
+		inputs.add(Collections.<Integer>emptyIterator());
+		new LoserTree<Integer>(inputs).next(); //should throw exception
+	}
+}
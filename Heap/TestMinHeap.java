@@ -1,5 +1,12 @@
 import org.junit.*;
 import static org.junit.Assert.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Collectors;
 /** 
  * This class will test the MinHeap Class implementation
  */
@@ -104,4 +111,198 @@ public class TestMinHeap{
 	public void removeTest2(){
 		heap.remove(); //should raise exception
 	}
-}
\ No newline at end of file
+	/**
+	 * Tests that a 4-ary heap lays the children of the root out in one block right after it
+	 */
+	@Test
+	public void arityLayoutTest(){
+		MinHeap<Integer> dary = new MinHeap<Integer>(2,4);
+		assertEquals(4,dary.arity());
+		/* the root is followed by its four children 5 8 4 2 and then the children of 5 */
+		for(Integer value : array2)
+			dary.insert(value);
+		assertEquals("1 5 8 4 2 6 7",dary.toString());
+		assertEquals("1 2 6 4 5 8 7",new MinHeap<Integer>(array2,2).toString());
+	}
+	/**
+	 * Tests that every supported arity gives the values back in sorted order, whether the heap
+	 * was built from an array or filled by inserting
+	 */
+	@Test
+	public void arityOrderTest(){
+		Random random = new Random(11);
+		Integer[] values = new Integer[500];
+		for(int i = 0;i < values.length;i++)
+			values[i] = random.nextInt(200);
+		Integer[] sorted = values.clone();
+		Arrays.sort(sorted);
+		for(int arity = 2;arity <= 8;arity *= 2){
+			MinHeap<Integer> built = new MinHeap<Integer>(values,arity);
+			MinHeap<Integer> inserted = new MinHeap<Integer>(1,arity);
+			for(Integer value : values)
+				inserted.insert(value);
+			for(Integer value : sorted){
+				assertEquals(value,built.remove());
+				assertEquals(value,inserted.remove());
+			}
+			assertTrue(built.isEmpty());
+			assertTrue(inserted.isEmpty());
+		}
+	}
+	/**
+	 * Tests that an arity the heap does not support is rejected
+	 */
+	@Test(expected=IllegalArgumentException.class)
+	public void arityTest(){
+		new MinHeap<Integer>(10,3); //should raise exception
+	}
+	/**
+	 * Tests insertAll with a small batch, which is sifted up one at a time, and a large batch,
+	 * which rebuilds the heap
+	 */
+	@Test
+	public void insertAllTest(){
+		Random random = new Random(5);
+		heap = new MinHeap<Integer>(1,4);
+		List<Integer> expected = new ArrayList<Integer>();
+		for(int batch = 1;batch <= 4096;batch *= 4){
+			Integer[] values = new Integer[batch];
+			for(int i = 0;i < batch;i++)
+				values[i] = random.nextInt(1000);
+			/* alternate between the two overloads */
+			if(batch % 2 == 0)
+				heap.insertAll(values);
+			else
+				heap.insertAll(Arrays.asList(values));
+			expected.addAll(Arrays.asList(values));
+			/* a small batch on top of the large ones goes through the sift up path */
+			heap.insertAll(new Integer[]{batch});
+			expected.add(batch);
+		}
+		expected.sort(null);
+		assertEquals(expected,heap.removeN(expected.size()));
+		assertTrue(heap.isEmpty());
+	}
+	/**
+	 * Tests drainTo and removeN stop at the requested count or when the heap runs out
+	 */
+	@Test
+	public void drainTest(){
+		heap = new MinHeap<Integer>(array2);
+		List<Integer> sink = new ArrayList<Integer>();
+		assertEquals(3,heap.drainTo(sink,3));
+		assertEquals(Arrays.asList(1,2,4),sink);
+		assertEquals(4,heap.size());
+		assertEquals(Arrays.asList(5,6,7,8),heap.removeN(10));
+		assertTrue(heap.isEmpty());
+		assertEquals(0,heap.drainTo(sink,5));
+	}
+	/**
+	 * Tests melding two heaps of different arities keeps every value and empties the other heap
+	 */
+	@Test
+	public void meldTest(){
+		heap2 = new MinHeap<Integer>(array);
+		heap3 = new MinHeap<Integer>(new Integer[]{3,0,9},4);
+		heap2.meld(heap3);
+		assertTrue(heap3.isEmpty());
+		assertEquals(Arrays.asList(0,1,2,3,4,5,6,7,8,9),heap2.removeN(10));
+		/* the emptied heap can be used again */
+		heap3.insert(1);
+		assertEquals(Integer.valueOf(1),heap3.remove());
+	}
+	/**
+	 * Tests heaps big enough to be built in parallel come back out in order for every arity
+	 */
+	@Test
+	public void parallelBuildTest(){
+		Random random = new Random(47);
+		Integer[] values = new Integer[200000];
+		for(int i = 0;i < values.length;i++)
+			values[i] = random.nextInt();
+		Integer[] sorted = values.clone();
+		Arrays.sort(sorted);
+		for(int arity = 2;arity <= 8;arity *= 2){
+			MinHeap<Integer> big = new MinHeap<Integer>(values,arity);
+			assertEquals(values.length,big.size());
+			for(Integer value : sorted)
+				assertEquals(value,big.remove());
+		}
+	}
+	/**
+	 * Tests adopting an array heapifies it in place instead of copying it
+	 */
+	@Test
+	public void adoptTest(){
+		Integer[] values = new Integer[]{null,5,2,8,4,1,6,7,null};
+		heap = MinHeap.adopt(values,7);
+		/* the caller's array is now in heap order */
+		assertEquals(Integer.valueOf(1),values[1]);
+		assertEquals("1 2 6 4 5 8 7",heap.toString());
+		/* the spare slot at the end is used before the heap has to grow */
+		heap.insert(3);
+		assertNotNull(values[8]);
+		heap.insert(0);
+		assertEquals(Arrays.asList(0,1,2,3,4,5,6,7,8),heap.removeN(9));
+		/* a 4-ary heap starts at index 3 */
+		Integer[] wide = new Integer[]{null,null,null,9,3,7};
+		assertEquals(Integer.valueOf(3),MinHeap.adopt(wide,3,4).findMin());
+		assertEquals(Integer.valueOf(3),wide[3]);
+	}
+	/**
+	 * Tests adopting an array that is too small for the size given
+	 */
+	@Test(expected=IllegalArgumentException.class)
+	public void adoptTest2(){
+		MinHeap.adopt(new Integer[4],4); //should raise exception
+	}
+	/**
+	 * Tests that the sorted iterator and stream walk every arity in order and leave the heap alone
+	 */
+	@Test
+	public void sortedIteratorTest(){
+		Random random = new Random(15);
+		for(int arity = 2;arity <= 8;arity *= 2){
+			Integer[] values = new Integer[1000];
+			for(int i = 0;i < values.length;i++)
+				values[i] = random.nextInt(200);
+			heap = new MinHeap<Integer>(values,arity);
+			String before = heap.toString();
+			Arrays.sort(values);
+			List<Integer> sorted = new ArrayList<Integer>();
+			heap.sortedIterator().forEachRemaining(sorted::add);
+			assertEquals(Arrays.asList(values),sorted);
+			assertEquals(Arrays.asList(values).subList(0,10),heap.stream().limit(10).collect(Collectors.toList()));
+			assertEquals(before,heap.toString());
+			assertEquals(1000,heap.size());
+		}
+	}
+	/**
+	 * Tests that the sorted iterator of an empty heap has nothing to give
+	 */
+	@Test(expected=NoSuchElementException.class)
+	public void sortedIteratorTest2(){
+		Iterator<Integer> sorted = heap.sortedIterator();
+		assertFalse(sorted.hasNext());
+		sorted.next(); //should raise exception
+	}
+	/**
+	 * Tests that partialSort puts the k smallest values in order at the front and keeps the rest
+	 */
+	@Test
+	public void partialSortTest(){
+		Random random = new Random(16);
+		Integer[] values = new Integer[500];
+		for(int i = 0;i < values.length;i++)
+			values[i] = random.nextInt(100);
+		Integer[] sorted = values.clone();
+		Arrays.sort(sorted);
+		MinHeap.partialSort(values,50);
+		assertArrayEquals(Arrays.copyOf(sorted,50),Arrays.copyOf(values,50));
+		Arrays.sort(values,50,values.length);
+		assertArrayEquals(sorted,values);
+		Integer[] whole = array2.clone();
+		MinHeap.partialSort(whole,whole.length);
+		assertArrayEquals(new Integer[]{1,2,4,5,6,7,8},whole);
+	}
+}
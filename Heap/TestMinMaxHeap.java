@@ -0,0 +1,102 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeMap;
+/**
+ * This class will test the MinMaxHeap Class implementation
+ */
+public class TestMinMaxHeap{
+	/**
+	 * MinMaxHeap test fixture
+	 */
+	private MinMaxHeap<Integer> heap;
+	/**
+	 * Before every test, preform the following setup
+	 */
+	@Before
+	public void setup(){
+		heap = new MinMaxHeap<Integer>();
+	}
+	/**
+	 * Tests the constructors and the peeks of an empty heap
+	 */
+	@Test
+	public void constructorTest(){
+		assertTrue(heap.isEmpty());
+		assertNull(heap.peekMin());
+		assertNull(heap.peekMax());
+		heap = new MinMaxHeap<Integer>(new Integer[]{5,2,8,4,1,6,7});
+		assertEquals(7,heap.size());
+		assertEquals(Integer.valueOf(1),heap.peekMin());
+		assertEquals(Integer.valueOf(8),heap.peekMax());
+	}
+	/**
+	 * Tests that both ends can be removed in order
+	 */
+	@Test
+	public void removeTest(){
+		for(int value : new int[]{5,2,8,4,1,6,7,3})
+			heap.insert(value);
+		assertEquals(Integer.valueOf(1),heap.removeMin());
+		assertEquals(Integer.valueOf(8),heap.removeMax());
+		assertEquals(Integer.valueOf(7),heap.removeMax());
+		assertEquals(Integer.valueOf(2),heap.remove());
+		assertEquals(4,heap.size());
+		assertEquals(Integer.valueOf(3),heap.peekMin());
+		assertEquals(Integer.valueOf(6),heap.peekMax());
+		assertEquals(Integer.valueOf(6),heap.removeMax());
+		assertEquals(Integer.valueOf(3),heap.removeMin());
+		assertEquals(Integer.valueOf(5),heap.removeMax());
+		assertEquals(Integer.valueOf(4),heap.removeMax());
+		assertTrue(heap.isEmpty());
+	}
+	/**
+	 * Tests removing from an empty heap
+	 */
+	@Test(expected=IllegalStateException.class)
+	public void removeTest2(){
+		heap.removeMax(); //should raise exception
+	}
+	/**
+	 * Tests random inserts and removals from both ends against a TreeMap of counts
+	 */
+	@Test
+	public void randomTest(){
+		Random random = new Random(16);
+		TreeMap<Integer,Integer> counts = new TreeMap<Integer,Integer>();
+		for(int step = 0;step < 20000;step++){
+			int action = random.nextInt(3);
+			if(action == 0 || counts.isEmpty()){
+				int value = random.nextInt(500);
+				heap.insert(value);
+				counts.merge(value,1,Integer::sum);
+			}else{
+				Integer expected = action == 1 ? counts.firstKey() : counts.lastKey();
+				assertEquals(expected,action == 1 ? heap.removeMin() : heap.removeMax());
+				if(counts.merge(expected,-1,Integer::sum) == 0)
+					counts.remove(expected);
+			}
+			assertEquals(counts.isEmpty() ? null : counts.firstKey(),heap.peekMin());
+			assertEquals(counts.isEmpty() ? null : counts.lastKey(),heap.peekMax());
+		}
+	}
+	/**
+	 * Tests that a heap built from an array keeps both ends in order
+	 */
+	@Test
+	public void buildTest(){
+		Random random = new Random(17);
+		Integer[] values = new Integer[1001];
+		for(int i = 0;i < values.length;i++)
+			values[i] = random.nextInt();
+		heap = new MinMaxHeap<Integer>(values);
+		Arrays.sort(values);
+		for(int low = 0,high = values.length - 1;low <= high;){
+			assertEquals(values[low++],heap.removeMin());
+			if(low <= high)
+				assertEquals(values[high--],heap.removeMax());
+		}
+		assertTrue(heap.isEmpty());
+	}
+}
@@ -0,0 +1,125 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+/**
+ * This class will test the OffHeapMinHeap with 24 byte records, a key followed by a 16 byte
+ * payload that repeats the key so a record that is torn or mixed up with another shows up
+ */
+public class TestOffHeapMinHeap{
+	/**
+	 * OffHeapMinHeap test fixture and a buffer for one record
+	 */
+	private OffHeapMinHeap heap;
+	private ByteBuffer record;
+	/**
+	 * Before every test, preform the following setup
+	 */
+	@Before
+	public void setup(){
+		heap = new OffHeapMinHeap(24,0);
+		record = ByteBuffer.allocate(24);
+	}
+	/**
+	 * A method to insert a record made from a key
+	 * @param long key The key of the record
+	 */
+	private void insert(long key){
+		record.clear();
+		record.putLong(key).putLong(~key).putLong(key * 31).flip();
+		heap.insert(record);
+		assertEquals(24,record.position());
+	}
+	/**
+	 * A method to remove the minimum record and check its payload
+	 * @return long The key of the removed record
+	 */
+	private long remove(){
+		record.clear();
+		long key = heap.remove(record);
+		assertEquals(24,record.position());
+		assertEquals(key,record.getLong(0));
+		assertEquals(~key,record.getLong(8));
+		assertEquals(key * 31,record.getLong(16));
+		return key;
+	}
+	/**
+	 * Tests the constructor and an empty heap
+	 */
+	@Test
+	public void constructorTest(){
+		assertTrue(heap.isEmpty());
+		assertEquals(24,heap.recordSize());
+		try{
+			new OffHeapMinHeap(12,8);
+			fail("A key past the end of the record should be rejected");
+		}catch(IllegalArgumentException e){
+		}
+	}
+	/**
+	 * Tests inserting and removing records in order
+	 */
+	@Test
+	public void orderTest(){
+		for(long key : new long[]{5,2,8,4,1,6,7})
+			insert(key);
+		assertEquals(7,heap.size());
+		assertEquals(1,heap.findMinKey());
+		record.clear();
+		heap.peek(record);
+		assertEquals(1,record.getLong(0));
+		for(long key : new long[]{1,2,4,5,6,7,8})
+			assertEquals(key,remove());
+		assertTrue(heap.isEmpty());
+	}
+	/**
+	 * Tests many random records, enough to need several chunks when the records are large
+	 */
+	@Test
+	public void growTest(){
+		/* 1MB records make a chunk of 64 records so the heap grows through many chunks */
+		OffHeapMinHeap big = new OffHeapMinHeap(1 << 20,100,ByteOrder.LITTLE_ENDIAN);
+		ByteBuffer large = ByteBuffer.allocate(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+		Random random = new Random(19);
+		long[] keys = new long[200];
+		for(int i = 0;i < keys.length;i++){
+			keys[i] = random.nextLong();
+			large.clear();
+			large.putLong(100,keys[i]).putLong((1 << 20) - 8,keys[i]);
+			big.insert(large);
+		}
+		Arrays.sort(keys);
+		for(long key : keys){
+			large.clear();
+			assertEquals(key,big.remove(large));
+			assertEquals(key,large.getLong((1 << 20) - 8));
+		}
+		assertTrue(big.isEmpty());
+	}
+	/**
+	 * Tests random inserts and removals against a sorted array
+	 */
+	@Test
+	public void randomTest(){
+		Random random = new Random(20);
+		long[] keys = new long[100000];
+		for(int i = 0;i < keys.length;i++){
+			keys[i] = random.nextLong();
+			insert(keys[i]);
+		}
+		Arrays.sort(keys);
+		for(long key : keys)
+			assertEquals(key,remove());
+		heap.clear();
+		assertTrue(heap.isEmpty());
+	}
+	/**
+	 * Tests removing from an empty heap
+	 */
+	@Test(expected=IllegalStateException.class)
+	public void removeTest(){
+		heap.remove(null); //should raise exception
+	}
+}
@@ -0,0 +1,75 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+import java.util.Arrays;
+import java.util.Random;
+/**
+ * This class will test the PairingHeap Class implementation
+ */
+public class TestPairingHeap{
+	/**
+	 * PairingHeap test fixture
+	 */
+	private PairingHeap<Integer> heap;
+	/**
+	 * Before every test, preform the following setup
+	 */
+	@Before
+	public void setup(){
+		heap = new PairingHeap<Integer>();
+	}
+	/**
+	 * Tests insert and remove give the values back in order
+	 */
+	@Test
+	public void orderTest(){
+		assertTrue(heap.isEmpty());
+		Random random = new Random(43);
+		Integer[] values = new Integer[3000];
+		for(int i = 0;i < values.length;i++){
+			values[i] = random.nextInt(1000);
+			heap.insert(values[i]);
+		}
+		assertEquals(values.length,heap.size());
+		Arrays.sort(values);
+		assertEquals(values[0],heap.findMin());
+		for(Integer value : values)
+			assertEquals(value,heap.remove());
+		assertTrue(heap.isEmpty());
+		assertNull(heap.findMin());
+	}
+	/**
+	 * Tests melding two heaps keeps every value and empties the other heap
+	 */
+	@Test
+	public void meldTest(){
+		PairingHeap<Integer> other = new PairingHeap<Integer>();
+		for(int i = 0;i < 10;i++){
+			heap.insert(i * 2);
+			other.insert(i * 2 + 1);
+		}
+		heap.meld(other);
+		assertTrue(other.isEmpty());
+		assertEquals(20,heap.size());
+		for(int i = 0;i < 20;i++)
+			assertEquals(Integer.valueOf(i),heap.remove());
+		/* melding into an empty heap and melding an empty heap both work */
+		other.insert(7);
+		heap.meld(other);
+		heap.meld(new PairingHeap<Integer>());
+		assertEquals(Integer.valueOf(7),heap.remove());
+	}
+	/**
+	 * Tests that a heap can not be melded with itself
+	 */
+	@Test(expected=IllegalArgumentException.class)
+	public void meldSelfTest(){
+		heap.meld(heap); //should raise exception
+	}
+	/**
+	 * Tests the exception of removing when the heap is empty
+	 */
+	@Test(expected=IllegalStateException.class)
+	public void removeTest(){
+		heap.remove(); //should raise exception
+	}
+}
@@ -0,0 +1,83 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+import java.util.Random;
+/**
+ * This class will test the RadixHeap Class implementation on monotone workloads
+ */
+public class TestRadixHeap{
+	/**
+	 * RadixHeap test fixture, a heap of longs keyed by their own value
+	 */
+	private RadixHeap<Long> heap;
+	/**
+	 * Before every test, preform the following setup
+	 */
+	@Before
+	public void setup(){
+		heap = new RadixHeap<Long>(v -> v);
+	}
+	/**
+	 * Tests that items come out in order, including equal and negative keys
+	 */
+	@Test
+	public void orderTest(){
+		assertTrue(heap.isEmpty());
+		long[] values = new long[]{7,-3,7,100,0,-3,Long.MAX_VALUE,42};
+		for(long value : values)
+			heap.insert(value);
+		assertEquals(8,heap.size());
+		assertEquals(Long.valueOf(-3),heap.findMin());
+		long[] expected = new long[]{-3,-3,0,7,7,42,100,Long.MAX_VALUE};
+		for(long value : expected)
+			assertEquals(Long.valueOf(value),heap.remove());
+		assertTrue(heap.isEmpty());
+		assertNull(heap.findMin());
+	}
+	/**
+	 * Tests a simulation that removes the next event and schedules later ones, checking against a
+	 * MinHeap doing the same
+	 */
+	@Test
+	public void monotoneTest(){
+		Random random = new Random(31);
+		MinHeap<Long> reference = new MinHeap<Long>();
+		for(int i = 0;i < 1000;i++){
+			long time = random.nextInt(1 << 20);
+			heap.insert(time);
+			reference.insert(time);
+		}
+		for(int i = 0;i < 20000;i++){
+			long now = heap.remove();
+			assertEquals(reference.remove(),Long.valueOf(now));
+			assertEquals(now,heap.lastKey());
+			/* every new event happens at or after now */
+			for(int j = random.nextInt(3);j > 0;j--){
+				long time = now + random.nextInt(1 << random.nextInt(30));
+				heap.insert(time);
+				reference.insert(time);
+			}
+			if(heap.isEmpty())
+				break;
+		}
+		while(!heap.isEmpty())
+			assertEquals(reference.remove(),heap.remove());
+		assertTrue(reference.isEmpty());
+	}
+	/**
+	 * Tests that a key smaller than the last one removed is rejected
+	 */
+	@Test(expected=IllegalArgumentException.class)
+	public void nonMonotoneTest(){
+		heap.insert(10L);
+		heap.insert(20L);
+		heap.remove();
+		heap.insert(5L); //should raise exception
+	}
+	/**
+	 * Tests the exception of removing when the heap is empty
+	 */
+	@Test(expected=IllegalStateException.class)
+	public void removeTest(){
+		heap.remove(); //should raise exception
+	}
+}
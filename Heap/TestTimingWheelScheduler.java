@@ -0,0 +1,139 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+/**
+ * This class will test the TimingWheelScheduler using a virtual clock
+ */
+public class TestTimingWheelScheduler{
+	/**
+	 * Scheduler test fixture, the clock is the value in time[0] and fired records the deadlines
+	 * of the tasks in the order they ran
+	 */
+	private long[] time;
+	private TimingWheelScheduler scheduler;
+	private List<Long> fired;
+	/**
+	 * Before every test, preform the following setup
+	 */
+	@Before
+	public void setup(){
+		time = new long[]{1000};
+		scheduler = new TimingWheelScheduler(() -> time[0]);
+		fired = new ArrayList<Long>();
+	}
+	/**
+	 * A helper to schedule a task that records the time it ran at
+	 * @param long delay The ticks to wait
+	 * @return TimingWheelScheduler.Timeout The timeout of the task
+	 */
+	private TimingWheelScheduler.Timeout schedule(long delay){
+		return scheduler.schedule(delay,() -> fired.add(scheduler.now()));
+	}
+	/**
+	 * Tests that tasks run at their deadline, in order, across every wheel and the overflow
+	 */
+	@Test
+	public void orderTest(){
+		long[] delays = new long[]{0,1,63,64,65,5000,4096,300000,1L << 24,(1L << 30) + 7};
+		for(long delay : delays)
+			schedule(delay);
+		assertEquals(delays.length,scheduler.pending());
+		/* nothing is due until the clock moves, except the one with no delay */
+		assertEquals(1,scheduler.advance());
+		time[0] += 64;
+		assertEquals(3,scheduler.advance());
+		time[0] += 1L << 31;
+		assertEquals(delays.length - 4,scheduler.advance());
+		long[] expected = new long[]{0,1,63,64,65,4096,5000,300000,1L << 24,(1L << 30) + 7};
+		assertEquals(expected.length,fired.size());
+		for(int i = 0;i < expected.length;i++)
+			assertEquals(Long.valueOf(1000 + expected[i]),fired.get(i));
+		assertEquals(0,scheduler.pending());
+	}
+	/**
+	 * Tests that cancelled tasks never run, whether they were in a wheel or in the overflow
+	 */
+	@Test
+	public void cancelTest(){
+		TimingWheelScheduler.Timeout near = schedule(10);
+		TimingWheelScheduler.Timeout middle = schedule(10000);
+		TimingWheelScheduler.Timeout far = schedule(1L << 40);
+		schedule(20);
+		assertTrue(near.cancel());
+		assertFalse(near.cancel());
+		assertTrue(far.cancel());
+		assertFalse(far.isPending());
+		assertEquals(2,scheduler.pending());
+		scheduler.advanceTo(time[0] + (1L << 41));
+		assertEquals(2,fired.size());
+		assertEquals(Long.valueOf(1020),fired.get(0));
+		assertEquals(Long.valueOf(11000),fired.get(1));
+		/* a task that already ran can not be cancelled */
+		assertFalse(middle.cancel());
+	}
+	/**
+	 * Tests that a task can schedule another one while the scheduler is advancing
+	 */
+	@Test
+	public void rescheduleTest(){
+		scheduler.schedule(100,new Runnable(){
+			public void run(){
+				fired.add(scheduler.now());
+				if(fired.size() < 5)
+					scheduler.schedule(100,this);
+			}
+		});
+		scheduler.advanceTo(time[0] + 1000);
+		assertEquals(5,fired.size());
+		assertEquals(Long.valueOf(1500),fired.get(4));
+	}
+	/**
+	 * Tests random timeouts and cancellations against sorting the deadlines, advancing the clock
+	 * in uneven steps
+	 */
+	@Test
+	public void randomTest(){
+		Random random = new Random(41);
+		List<Long> expected = new ArrayList<Long>();
+		List<TimingWheelScheduler.Timeout> timeouts = new ArrayList<TimingWheelScheduler.Timeout>();
+		for(int i = 0;i < 5000;i++){
+			long delay = random.nextInt(1 << random.nextInt(28));
+			TimingWheelScheduler.Timeout timeout = scheduler.schedule(delay,() -> fired.add(scheduler.now()));
+			timeouts.add(timeout);
+		}
+		for(TimingWheelScheduler.Timeout timeout : timeouts){
+			if(random.nextInt(4) == 0)
+				timeout.cancel();
+			else
+				expected.add(timeout.deadline());
+		}
+		expected.sort(null);
+		while(scheduler.pending() > 0){
+			time[0] += random.nextInt(1 << random.nextInt(26));
+			scheduler.advance();
+		}
+		assertEquals(expected,fired);
+	}
+	/**
+	 * Tests that a delay too long for the deadline to fit in a long does not run at once
+	 */
+	@Test
+	public void hugeDelayTest(){
+		TimingWheelScheduler.Timeout timeout = schedule(Long.MAX_VALUE);
+		assertEquals(Long.MAX_VALUE,timeout.deadline());
+		assertEquals(0,scheduler.advance());
+		time[0] += 1L << 40;
+		assertEquals(0,scheduler.advance());
+		assertEquals(1,scheduler.pending());
+		assertTrue(fired.isEmpty());
+	}
+	/**
+	 * Tests that a negative delay is rejected
+	 */
+	@Test(expected=IllegalArgumentException.class)
+	public void negativeDelayTest(){
+		schedule(-1); //should raise exception
+	}
+}
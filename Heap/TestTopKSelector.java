@@ -0,0 +1,105 @@
+import org.junit.*;
+import static org.junit.Assert.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+/**
+ * This class will test the TopKSelector class
+ */
+public class TestTopKSelector{
+	/**
+	 * TopKSelector test fixture
+	 */
+	private TopKSelector<Integer> selector;
+	/**
+	 * Before every test, preform the following setup
+	 */
+	@Before
+	public void setup(){
+		selector = new TopKSelector<Integer>(3);
+	}
+	/**
+	 * Tests that only the three largest values are kept and that small ones are rejected
+	 */
+	@Test
+	public void offerTest(){
+		assertTrue(selector.isEmpty());
+		assertTrue(selector.offer(5));
+		assertTrue(selector.offer(1));
+		assertTrue(selector.offer(9));
+		assertEquals(Integer.valueOf(1),selector.threshold());
+		/* it has to beat the threshold to get in */
+		assertFalse(selector.offer(0));
+		assertFalse(selector.offer(1));
+		assertTrue(selector.offer(7));
+		assertEquals(Integer.valueOf(5),selector.threshold());
+		assertEquals(3,selector.size());
+		assertEquals(Arrays.asList(9,7,5),selector.drainSorted());
+		assertTrue(selector.isEmpty());
+	}
+	/**
+	 * Tests a long random stream against sorting the whole stream
+	 */
+	@Test
+	public void streamTest(){
+		Random random = new Random(9);
+		selector = new TopKSelector<Integer>(100);
+		List<Integer> all = new ArrayList<Integer>();
+		for(int i = 0;i < 100000;i++){
+			int value = random.nextInt();
+			all.add(value);
+			selector.offer(value);
+		}
+		all.sort(Collections.reverseOrder());
+		assertEquals(all.subList(0,100),selector.drainSorted());
+	}
+	/**
+	 * Tests that merging per-thread selectors in parallel gives the same top k as one selector
+	 */
+	@Test
+	public void mergeAllTest(){
+		Random random = new Random(13);
+		List<TopKSelector<Integer>> selectors = new ArrayList<TopKSelector<Integer>>();
+		List<Integer> all = new ArrayList<Integer>();
+		for(int s = 0;s < 16;s++){
+			TopKSelector<Integer> part = new TopKSelector<Integer>(50);
+			for(int i = 0;i < 1000;i++){
+				int value = random.nextInt(1000000);
+				all.add(value);
+				part.offer(value);
+			}
+			selectors.add(part);
+		}
+		all.sort(Collections.reverseOrder());
+		assertEquals(all.subList(0,50),TopKSelector.mergeAll(selectors).drainSorted());
+	}
+	/**
+	 * Tests that selectors with a different k are not merged and are left untouched
+	 */
+	@Test
+	public void mergeDifferentKTest(){
+		TopKSelector<Integer> other = new TopKSelector<Integer>(5);
+		other.offer(1);
+		try{
+			selector.merge(other);
+			fail("merged selectors with different k");
+		}catch(IllegalArgumentException e){
+			assertEquals(1,other.size());
+		}
+		try{
+			TopKSelector.mergeAll(Arrays.asList(selector,other));
+			fail("merged selectors with different k");
+		}catch(IllegalArgumentException e){
+			assertEquals(1,other.size());
+		}
+	}
+	/**
+	 * Tests that k has to be positive
+	 */
+	@Test(expected=IllegalArgumentException.class)
+	public void constructorTest(){
+		new TopKSelector<Integer>(0); //should raise exception
+	}
+}
@@ -1,5 +1,8 @@
 import org.junit.*;
 import static org.junit.Assert.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 /**
  * This class will test the Unbounded Priority queue, focusing mostly on the limitless
  * property. This is because the test for minHeap tested most of the class already.
@@ -61,4 +64,78 @@ public class TestUnboundedPriorityQueue{
 	public void removeTest(){
 		this.queue.dequeue(); //should throw exception
 	}
-}
\ No newline at end of file
+	/**
+	 * Tests that a queue backed by an 8-ary heap still grows and dequeues in order
+	 */
+	@Test
+	public void arityTest(){
+		UnboundedPriorityQueue<Integer> wide = new UnboundedPriorityQueue<Integer>(i,8);
+		for(int value = 20;value > 0;value--)
+			wide.enqueue(value);
+		for(int value = 1;value <= 20;value++)
+			assertEquals(Integer.valueOf(value),wide.dequeue());
+		assertTrue(wide.isEmpty());
+	}
+	/**
+	 * Tests the batch methods go past the initial size and come back out in order
+	 */
+	@Test
+	public void batchTest(){
+		this.queue.enqueueAll(new Integer[]{9,3,7});
+		this.queue.enqueueAll(Arrays.asList(8,1,5));
+		assertEquals(Arrays.asList(1,3),this.queue.dequeueN(2));
+		List<Integer> sink = new ArrayList<Integer>();
+		assertEquals(4,this.queue.drainTo(sink,100));
+		assertEquals(Arrays.asList(5,7,8,9),sink);
+		assertTrue(this.queue.isEmpty());
+	}
+	/**
+	 * Tests a queue backed by a RadixHeap for priorities that never go down
+	 */
+	@Test
+	public void radixTest(){
+		UnboundedPriorityQueue<Integer> monotone = new UnboundedPriorityQueue<Integer>(new RadixHeap<Integer>(v -> v));
+		monotone.enqueueAll(new Integer[]{5,3,9});
+		assertEquals(Integer.valueOf(3),monotone.dequeue());
+		monotone.enqueue(4);
+		assertEquals(Arrays.asList(4,5,9),monotone.dequeueN(5));
+		assertTrue(monotone.isEmpty());
+	}
+	/**
+	 * Tests melding queues with the same and with different backing heaps
+	 */
+	@Test
+	public void meldTest(){
+		UnboundedPriorityQueue<Integer> pairing = new UnboundedPriorityQueue<Integer>(new PairingHeap<Integer>());
+		UnboundedPriorityQueue<Integer> pairing2 = new UnboundedPriorityQueue<Integer>(new PairingHeap<Integer>());
+		UnboundedPriorityQueue<Integer> binary = new UnboundedPriorityQueue<Integer>();
+		pairing.enqueueAll(new Integer[]{4,1});
+		pairing2.enqueueAll(new Integer[]{3,6});
+		binary.enqueueAll(new Integer[]{5,2});
+		this.queue.enqueue(0);
+		pairing.meld(pairing2);
+		pairing.meld(binary);
+		this.queue.meld(pairing);
+		assertTrue(pairing.isEmpty());
+		assertTrue(pairing2.isEmpty());
+		assertTrue(binary.isEmpty());
+		assertEquals(Arrays.asList(0,1,2,3,4,5,6),this.queue.dequeueN(10));
+	}
+	/**
+	 * Tests that a value the queue being melded into rejects stays in the other queue
+	 */
+	@Test
+	public void meldRejectedTest(){
+		UnboundedPriorityQueue<Integer> monotone = new UnboundedPriorityQueue<Integer>(new RadixHeap<Integer>(v -> v));
+		monotone.enqueueAll(new Integer[]{5,8});
+		assertEquals(Integer.valueOf(5),monotone.dequeue());
+		this.queue.enqueueAll(new Integer[]{9,3,7});
+		try{
+			monotone.meld(this.queue);
+			fail("melded a key below the last one removed");
+		}catch(IllegalArgumentException e){
+			assertEquals(Arrays.asList(3,7,9),this.queue.dequeueN(10));
+			assertEquals(Arrays.asList(8),monotone.dequeueN(10));
+		}
+	}
+}
@@ -0,0 +1,277 @@
+import java.util.function.LongSupplier;
+/**
+ * A hierarchical timing wheel for scheduling timeouts. There are four wheels of 64 slots and a
+ * timeout goes in the wheel of the highest 6 bit digit in which its deadline differs from the
+ * current time, so the first wheel holds the next 64 ticks, the second the next 4096 and so on.
+ * Scheduling and cancelling are O(1) since each slot is a doubly linked list, and advancing finds
+ * the next slot with timeouts through a bit mask of each wheel so empty slots are never scanned.
+ * When the time reaches a slot of a higher wheel its timeouts cascade down to the lower wheels.
+ *
+ * Timeouts more than 2^24 ticks away go into an UnboundedPriorityQueue instead, which is moved
+ * into the wheels as the time gets close to them. Cancelled timeouts there are only dropped when
+ * they reach the front, they are rare since they are so far in the future.
+ *
+ * Time is measured in ticks read from a LongSupplier so a test can drive it with a virtual clock.
+ * The scheduler is not thread-safe.
+ */
+public class TimingWheelScheduler{
+	/**
+	 * The members of this class are the wheels, a mask of the slots in use for each wheel, the
+	 * queue of far-future timeouts, the current time, the clock and the number of timeouts pending
+	 */
+	private static final int LEVELS = 4;
+	private static final int SLOT_BITS = 6;
+	private static final int SLOTS = 1 << SLOT_BITS;
+	private static final int SLOT_MASK = SLOTS - 1;
+	private final Timeout[][] wheels = new Timeout[LEVELS][SLOTS];
+	private final long[] occupied = new long[LEVELS];
+	private final UnboundedPriorityQueue<Timeout> overflow = new UnboundedPriorityQueue<Timeout>();
+	private final LongSupplier clock;
+	private long now;
+	private long sequence;
+	private int pending;
+	/**
+	 * Constructor for the TimingWheelScheduler, the wheels start at the clock's current time
+	 * @param LongSupplier clock The source of the current time in ticks
+	 */
+	public TimingWheelScheduler(LongSupplier clock){
+		if(clock == null)
+			throw new IllegalArgumentException("The clock can not be null");
+		this.clock = clock;
+		this.now = clock.getAsLong();
+	}
+	/**
+	 * A method to get the time the scheduler has advanced to
+	 * @return long The current time in ticks
+	 */
+	public long now(){
+		return now;
+	}
+	/**
+	 * A method to get the number of timeouts that have neither run nor been cancelled
+	 * @return int The number of pending timeouts
+	 */
+	public int pending(){
+		return pending;
+	}
+	/**
+	 * A method to schedule a task to run after a delay
+	 * @param long delay, Runnable task The ticks to wait from the current time and the task to run,
+	 * a deadline past Long.MAX_VALUE is kept at Long.MAX_VALUE
+	 * @return Timeout The timeout, which can be used to cancel the task
+	 * @throws IllegalArgumentException() if the delay is negative or the task is null
+	 */
+	public Timeout schedule(long delay, Runnable task){
+		if(delay < 0)
+			throw new IllegalArgumentException("The delay can not be negative");
+		if(task == null)
+			throw new IllegalArgumentException("The task can not be null");
+		/* a delay that would wrap the deadline around to the past waits as long as it can instead */
+		long deadline = now > Long.MAX_VALUE - delay ? Long.MAX_VALUE : now + delay;
+		Timeout timeout = new Timeout(deadline,task,sequence++);
+		place(timeout);
+		pending++;
+		return timeout;
+	}
+	/**
+	 * A method to advance the scheduler to the clock's current time, running every task whose
+	 * deadline has passed in order of deadline
+	 * @return int The number of tasks run
+	 */
+	public int advance(){
+		return advanceTo(clock.getAsLong());
+	}
+	/**
+	 * A method to advance the scheduler to a time, running every task whose deadline is at or
+	 * before it in order of deadline. Tasks may schedule more timeouts while they run.
+	 * @param long target The time to advance to
+	 * @return int The number of tasks run
+	 */
+	public int advanceTo(long target){
+		int run = 0;
+		for(;;){
+			/* the lowest wheel with anything in it holds the next timeouts */
+			int level = 0;
+			while(level < LEVELS && occupied[level] == 0)
+				level++;
+			if(level == LEVELS){
+				/* the wheels are empty so jump straight to the first far-future timeout */
+				Timeout next = firstOverflow();
+				if(next == null || next.deadline > target)
+					break;
+				now = next.deadline;
+				pullOverflow();
+				continue;
+			}
+			int slot = Long.numberOfTrailingZeros(occupied[level]);
+			long start = slotStart(level,slot);
+			if(start > target)
+				break;
+			if(start > now)
+				now = start;
+			/* take the timeouts out one at a time so the slot stays consistent if a task throws */
+			Timeout timeout;
+			while((timeout = wheels[level][slot]) != null){
+				unlink(timeout);
+				if(level == 0){
+					pending--;
+					run++;
+					timeout.task.run();
+				}else
+					/* the time is inside this slot now so the timeout goes to a lower wheel */
+					place(timeout);
+			}
+		}
+		if(target > now){
+			now = target;
+			pullOverflow();
+		}
+		return run;
+	}
+	/**
+	 * A method to find the time a slot starts at
+	 * @param int level, int slot The wheel and the slot in it
+	 * @return long The first tick covered by the slot
+	 */
+	private long slotStart(int level, int slot){
+		int shift = SLOT_BITS * level;
+		/* keep the digits of the current time above this wheel and put the slot below them */
+		long high = (now >>> (shift + SLOT_BITS)) << (shift + SLOT_BITS);
+		return high | ((long) slot << shift);
+	}
+	/**
+	 * A method to put a timeout in the wheel for its deadline, or in the overflow queue
+	 * @param Timeout timeout The timeout to place
+	 */
+	private void place(Timeout timeout){
+		long deadline = timeout.deadline;
+		int level = 0;
+		int slot;
+		if(deadline <= now)
+			/* it is already due, the slot of the current time runs on the next advance */
+			slot = (int) (now & SLOT_MASK);
+		else{
+			/* the highest 6 bit digit in which the deadline differs from the current time */
+			level = (63 - Long.numberOfLeadingZeros(deadline ^ now)) / SLOT_BITS;
+			if(level >= LEVELS){
+				timeout.level = Timeout.OVERFLOW;
+				overflow.enqueue(timeout);
+				return;
+			}
+			slot = (int) (deadline >>> (SLOT_BITS * level)) & SLOT_MASK;
+		}
+		/* push it on the front of the slot's list */
+		Timeout head = wheels[level][slot];
+		timeout.next = head;
+		timeout.previous = null;
+		if(head != null)
+			head.previous = timeout;
+		wheels[level][slot] = timeout;
+		occupied[level] |= 1L << slot;
+		timeout.level = level;
+		timeout.slot = slot;
+	}
+	/**
+	 * A method to take a timeout out of its slot
+	 * @param Timeout timeout The timeout to unlink
+	 */
+	private void unlink(Timeout timeout){
+		int level = timeout.level;
+		int slot = timeout.slot;
+		if(timeout.previous != null)
+			timeout.previous.next = timeout.next;
+		else
+			wheels[level][slot] = timeout.next;
+		if(timeout.next != null)
+			timeout.next.previous = timeout.previous;
+		/* the slot is empty now so the mask should skip it */
+		if(wheels[level][slot] == null)
+			occupied[level] &= ~(1L << slot);
+		timeout.next = null;
+		timeout.previous = null;
+		timeout.level = Timeout.DONE;
+	}
+	/**
+	 * A method to find the first far-future timeout that was not cancelled
+	 * @return Timeout The first live timeout in the overflow queue, or null if there is none
+	 */
+	private Timeout firstOverflow(){
+		/* cancelled timeouts are dropped once they reach the front */
+		while(!overflow.isEmpty() && overflow.peek().level == Timeout.DONE)
+			overflow.dequeue();
+		return overflow.isEmpty() ? null : overflow.peek();
+	}
+	/**
+	 * A method to move the far-future timeouts that now fit in the wheels into them
+	 * @ensure The overflow queue only holds timeouts that are beyond the wheels
+	 */
+	private void pullOverflow(){
+		Timeout next;
+		/* the queue is ordered by deadline so stop at the first one that does not fit */
+		while((next = firstOverflow()) != null && (next.deadline <= now || (next.deadline ^ now) >>> (SLOT_BITS * LEVELS) == 0))
+			place(overflow.dequeue());
+	}
+	/**
+	 * A scheduled task. It can be cancelled until it has run.
+	 */
+	public final class Timeout implements Comparable<Timeout>{
+		/* the level of a timeout that is in the overflow queue, or that has run or been cancelled */
+		static final int OVERFLOW = -1;
+		static final int DONE = -2;
+		private final long deadline;
+		private final Runnable task;
+		private final long order;
+		private Timeout previous;
+		private Timeout next;
+		private int level;
+		private int slot;
+		/**
+		 * Constructor for a Timeout
+		 * @param long deadline, Runnable task, long order When it runs, what it runs and the order
+		 * it was scheduled in, which breaks ties between equal deadlines
+		 */
+		private Timeout(long deadline, Runnable task, long order){
+			this.deadline = deadline;
+			this.task = task;
+			this.order = order;
+		}
+		/**
+		 * A method to get the time the task runs at
+		 * @return long The deadline in ticks
+		 */
+		public long deadline(){
+			return deadline;
+		}
+		/**
+		 * A method to determine if the task is still waiting to run
+		 * @return boolean Represents if the task has neither run nor been cancelled
+		 */
+		public boolean isPending(){
+			return level != DONE;
+		}
+		/**
+		 * A method to cancel the task in O(1)
+		 * @return boolean Represents if the task was pending and now will not run
+		 */
+		public boolean cancel(){
+			if(level == DONE)
+				return false;
+			/* in the wheels it is unlinked now, in the queue it is dropped when it reaches the front */
+			if(level == OVERFLOW)
+				level = DONE;
+			else
+				unlink(this);
+			pending--;
+			return true;
+		}
+		/**
+		 * A method to order timeouts by deadline and then by the order they were scheduled in
+		 * @param Timeout other The timeout to compare with
+		 * @return int Represents if this timeout runs before or after the other
+		 */
+		public int compareTo(Timeout other){
+			int comparison = Long.compare(deadline,other.deadline);
+			return comparison != 0 ? comparison : Long.compare(order,other.order);
+		}
+	}
+}
@@ -0,0 +1,125 @@
+import java.lang.Comparable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+/**
+ * A bounded selector that keeps the k largest values of a stream using a MinHeap of size k. The
+ * root of the heap is the smallest value kept, so a candidate that is not larger than it is
+ * rejected with one comparison, and one that is replaces it with a single moveValueDown. Memory
+ * stays O(k) no matter how long the stream is.
+ */
+public class TopKSelector<T extends Comparable<? super T>>{
+	/**
+	 * The members of this class are the number of values to keep and the heap holding them
+	 */
+	private final int k;
+	private final MinHeap<T> heap;
+	/**
+	 * Constructor for the TopKSelector
+	 * @param int k The number of values to keep
+	 * @throws IllegalArgumentException() if k is less than 1
+	 */
+	public TopKSelector(int k){
+		if(k < 1)
+			throw new IllegalArgumentException("k must be at least 1");
+		this.k = k;
+		this.heap = new MinHeap<T>(k);
+	}
+	/**
+	 * A method to get the number of values the selector keeps
+	 * @return int k
+	 */
+	public int k(){
+		return k;
+	}
+	/**
+	 * A method to get the number of values kept so far
+	 * @return int The number of values kept, at most k
+	 */
+	public int size(){
+		return heap.size();
+	}
+	/**
+	 * A method to determine if the selector has not kept anything yet
+	 * @return boolean Represents if the selector is empty
+	 */
+	public boolean isEmpty(){
+		return heap.isEmpty();
+	}
+	/**
+	 * A method to get the smallest value kept, which a candidate has to beat once k values are kept
+	 * @return T The smallest value kept, or null if it is empty
+	 */
+	public T threshold(){
+		return heap.findMin();
+	}
+	/**
+	 * A method to offer a value from the stream to the selector
+	 * @param T value The candidate
+	 * @return boolean Represents if the value is now one of the kept values
+	 */
+	public boolean offer(T value){
+		/* until k values are kept everything goes in */
+		if(heap.size() < k){
+			heap.insert(value);
+			return true;
+		}
+		/* the one comparison against the root, ties keep the value already there */
+		if(value.compareTo(heap.findMin()) <= 0)
+			return false;
+		heap.replaceMin(value);
+		return true;
+	}
+	/**
+	 * A method to offer every value of a collection to the selector
+	 * @param Collection<? extends T> values The candidates
+	 */
+	public void offerAll(Collection<? extends T> values){
+		for(T value : values)
+			offer(value);
+	}
+	/**
+	 * A method to take the kept values out of the selector, largest first
+	 * @return List<T> The kept values sorted from largest to smallest
+	 * @ensure The selector is now empty
+	 */
+	public List<T> drainSorted(){
+		List<T> items = heap.removeN(heap.size());
+		/* the heap gives them smallest first */
+		Collections.reverse(items);
+		return items;
+	}
+	/**
+	 * A method to merge the values kept by another selector into this one
+	 * @param TopKSelector<T> other The selector to merge in
+	 * @ensure The other selector is now empty
+	 * @throws IllegalArgumentException() if the other selector keeps a different number of values
+	 */
+	public void merge(TopKSelector<T> other){
+		if(other.k != k)
+			throw new IllegalArgumentException("Can not merge a top " + other.k + " selector into a top " + k + " one");
+		/* take the other heap's values out and offer each of them here */
+		List<T> items = new ArrayList<T>(other.size());
+		other.heap.drainTo(items,other.size());
+		offerAll(items);
+	}
+	/**
+	 * A method to merge per-thread selectors in parallel. The selectors are merged pairwise on
+	 * the common ForkJoinPool, so each one must no longer be in use by its thread.
+	 * @param Collection<TopKSelector<T>> selectors The selectors to merge, all with the same k
+	 * @return TopKSelector<T> One of the selectors, now holding the top k of all of them
+	 * @throws IllegalArgumentException() if there are no selectors or they do not all have the same k
+	 */
+	public static <T extends Comparable<? super T>> TopKSelector<T> mergeAll(Collection<TopKSelector<T>> selectors){
+		/* check every k up front so a mismatch is reported before any selector is drained */
+		if(selectors.stream().mapToInt(selector -> selector.k).distinct().count() > 1)
+			throw new IllegalArgumentException("The selectors to merge do not all have the same k");
+		return selectors.parallelStream()
+			.reduce((a,b) -> {
+				a.merge(b);
+				return a;
+			})
+			.orElseThrow(() -> new IllegalArgumentException("There are no selectors to merge"));
+	}
+}
@@ -1,14 +1,16 @@
 import java.lang.Comparable;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 /**
  * An implementation of the UnboundedPriorityQueue class which will have no size limit
  */
 public class UnboundedPriorityQueue<T extends Comparable<? super T>>{
 	/**
-	 * The only memeber of this class is the heap
+	 * The only memeber of this class is the heap, a MinHeap unless another PriorityHeap is given
 	 */
-	private MinHeap<T> heap;
+	private PriorityHeap<T> heap;
 	/**
 	 * Default constructor for the UnboundedPriorityQueue
 	 */
@@ -21,6 +23,24 @@ public class UnboundedPriorityQueue<T extends Comparable<? super T>>{
 	public UnboundedPriorityQueue(int i){
 		this.heap = new MinHeap<T>(i);
 	}
+	/**
+	 * This contructor lets you pick the arity of the MinHeap backing the queue. An arity of 4 or 8
+	 * makes the heap shallower which helps very large queues.
+	 * @param int i, int arity The initial size of the queue and the number of children of each node
+	 */
+	public UnboundedPriorityQueue(int i, int arity){
+		this.heap = new MinHeap<T>(i,arity);
+	}
+	/**
+	 * This contructor lets you back the queue with another PriorityHeap, such as a RadixHeap when
+	 * the priorities never go down
+	 * @param PriorityHeap<T> heap The heap the queue will use
+	 */
+	public UnboundedPriorityQueue(PriorityHeap<T> heap){
+		if(heap == null)
+			throw new IllegalArgumentException("The heap can not be null");
+		this.heap = heap;
+	}
 	/**
 	 * A method to enqueue a value into the PriorityQueue
 	 * @param T value The value you wish to enqueue into the PriorityQueue
@@ -28,6 +48,61 @@ public class UnboundedPriorityQueue<T extends Comparable<? super T>>{
 	public void enqueue(T value){
 		this.heap.insert(value);
 	}
+	/**
+	 * A method to enqueue every value of an array into the PriorityQueue at once
+	 * @param T[] values The values you wish to enqueue into the PriorityQueue
+	 */
+	public void enqueueAll(T[] values){
+		this.heap.insertAll(values);
+	}
+	/**
+	 * A method to enqueue every value of a collection into the PriorityQueue at once
+	 * @param Collection<? extends T> values The values you wish to enqueue into the PriorityQueue
+	 */
+	public void enqueueAll(Collection<? extends T> values){
+		this.heap.insertAll(values);
+	}
+	/**
+	 * A method to dequeue up to maxN values, in order, into a collection
+	 * @param Collection<? super T> sink, int maxN Where the values go and the most to dequeue
+	 * @return int The number of values dequeued
+	 */
+	public int drainTo(Collection<? super T> sink, int maxN){
+		return this.heap.drainTo(sink,maxN);
+	}
+	/**
+	 * A method to dequeue the k smallest values of the PriorityQueue
+	 * @param int k The number of values to dequeue
+	 * @return List<T> The values in order, fewer than k if the PriorityQueue runs out
+	 */
+	public List<T> dequeueN(int k){
+		return this.heap.removeN(k);
+	}
+	/**
+	 * A method to move every value of another PriorityQueue into this one. Two PairingHeaps meld
+	 * in O(1) and two MinHeaps meld with a single buildHeap, any other pair falls back to moving
+	 * the values one at a time.
+	 * @param UnboundedPriorityQueue<T> other The PriorityQueue to merge in
+	 * @ensure The other PriorityQueue is now empty
+	 * @throws IllegalArgumentException() if the other PriorityQueue is this one, or if this heap
+	 * rejects one of the values, which stays in the other PriorityQueue along with every larger one
+	 */
+	@SuppressWarnings("unchecked")
+	public void meld(UnboundedPriorityQueue<T> other){
+		if(other == this)
+			throw new IllegalArgumentException("A PriorityQueue can not be melded with itself");
+		if(this.heap instanceof PairingHeap && other.heap instanceof PairingHeap)
+			((PairingHeap<T>) this.heap).meld((PairingHeap<T>) other.heap);
+		else if(this.heap instanceof MinHeap && other.heap instanceof MinHeap)
+			((MinHeap<T>) this.heap).meld((MinHeap<T>) other.heap);
+		/* each value is only removed from the other heap once this one has taken it, so a value
+		 * this heap rejects, such as a key below a RadixHeap's last one, is not lost */
+		else
+			while(!other.heap.isEmpty()){
+				this.heap.insert(other.heap.findMin());
+				other.heap.remove();
+			}
+	}
 	/**
 	 * A method to dequeue a value from the PriorityQueue
 	 * @return T The value you wish to remove from the PriorityQueue
@@ -38,6 +113,13 @@ public class UnboundedPriorityQueue<T extends Comparable<? super T>>{
 			throw new IllegalStateException("The PriorityQueue is empty");
 		return this.heap.remove();
 	}
+	/**
+	 * A method to look at the value dequeue would return without removing it
+	 * @return T The smallest value in the PriorityQueue, or null if it is empty
+	 */
+	public T peek(){
+		return this.heap.findMin();
+	}
 	/**
 	 * A method to determine if the heap is empty
 	 * @return boolean Represents if the heap is empty